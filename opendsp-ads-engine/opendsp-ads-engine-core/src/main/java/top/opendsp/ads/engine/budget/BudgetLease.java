@@ -0,0 +1,135 @@
+package top.opendsp.ads.engine.budget;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 预算租约
+ * 本引擎从共享预算池领取的额度，竞价检查和扣费只读写本地原子计数，剩余额度低于续租阈值时再从预算池领取；
+ * 胜出扣费允许透支，透支部分在下次领取后抵扣
+ *
+ * @author weiping wang
+ */
+public final class BudgetLease {
+
+    private final String key;
+    private final AtomicLong remaining = new AtomicLong();
+    private final AtomicBoolean renewing = new AtomicBoolean();
+
+    private volatile long limit;
+    private volatile long renewThreshold;
+    private volatile boolean initialized;
+    private volatile boolean drained;
+    private volatile long nextAttemptNanos = System.nanoTime();
+
+    public BudgetLease(String key, long limit) {
+        this.key = key;
+        this.limit = limit;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * 本地剩余额度，透支时为负数
+     */
+    public long remaining() {
+        return remaining.get();
+    }
+
+    /**
+     * 是否领取过额度，未领取过的租约剩余额度为0
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * 预算池已领完且本地额度已用完，上限提高前不会再有额度
+     */
+    public boolean isExhausted() {
+        return drained && remaining.get() <= 0;
+    }
+
+    /**
+     * 更新预算池上限，上限提高后立即允许续租
+     */
+    public void updateLimit(long limit) {
+        long previous = this.limit;
+        if (previous != limit) {
+            this.limit = limit;
+            if (limit > previous) {
+                drained = false;
+                nextAttemptNanos = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * 扣减本地额度，返回扣减后的剩余额度
+     */
+    public long consume(long amount) {
+        return remaining.addAndGet(-amount);
+    }
+
+    /**
+     * 是否需要续租：剩余额度低于续租阈值，且不处于预算池领完或续租失败后的等待期
+     */
+    public boolean needsRenewal(long nowNanos) {
+        if (initialized && remaining.get() >= renewThreshold) {
+            return false;
+        }
+        return nowNanos - nextAttemptNanos >= 0 && !renewing.get();
+    }
+
+    /**
+     * 开始续租，同一租约同时只有一个线程续租
+     */
+    public boolean tryBeginRenewal() {
+        return renewing.compareAndSet(false, true);
+    }
+
+    /**
+     * 完成续租
+     *
+     * @param requested 期望领取的额度
+     * @param granted 实际领取的额度，少于期望值说明预算池已领完
+     * @param renewRatio 剩余额度低于期望领取额度的该比例时续租
+     * @param retryNanos 预算池领完后再次尝试领取的间隔
+     */
+    public void completeRenewal(long requested, long granted, double renewRatio, long retryNanos) {
+        remaining.addAndGet(granted);
+        renewThreshold = (long) (requested * renewRatio);
+        initialized = true;
+        drained = granted < requested;
+        if (drained) {
+            nextAttemptNanos = System.nanoTime() + retryNanos;
+        }
+        renewing.set(false);
+    }
+
+    /**
+     * 续租失败，等待重试间隔后再尝试
+     */
+    public void failRenewal(long retryNanos) {
+        nextAttemptNanos = System.nanoTime() + retryNanos;
+        renewing.set(false);
+    }
+
+    /**
+     * 取出全部未使用的额度，用于归还预算池
+     */
+    public long drain() {
+        long amount = remaining.getAndSet(0);
+        if (amount < 0) {
+            remaining.addAndGet(amount);
+            return 0;
+        }
+        return amount;
+    }
+}
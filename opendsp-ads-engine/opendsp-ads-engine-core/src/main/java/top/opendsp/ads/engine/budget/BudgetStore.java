@@ -0,0 +1,34 @@
+package top.opendsp.ads.engine.budget;
+
+import java.util.List;
+
+/**
+ * 共享预算存储
+ * 记录各预算池（广告组日预算、广告主余额）已被所有引擎领取的额度，领取操作必须是原子的，
+ * 保证整个集群领取的额度之和不超过预算上限
+ *
+ * @author weiping wang
+ */
+public interface BudgetStore {
+
+    /**
+     * 从预算池领取额度
+     *
+     * @param key 预算池
+     * @param limit 预算池上限
+     * @param amount 期望领取的额度
+     * @param ttlSeconds 预算池记录的过期时间
+     * @return 实际领取的额度，预算池已领完时返回0
+     */
+    long claim(String key, long limit, long amount, long ttlSeconds);
+
+    /**
+     * 归还未使用的额度
+     */
+    void release(String key, long amount);
+
+    /**
+     * 批量查询预算池已领取的额度，预算池不存在时为0
+     */
+    long[] claimed(List<String> keys);
+}
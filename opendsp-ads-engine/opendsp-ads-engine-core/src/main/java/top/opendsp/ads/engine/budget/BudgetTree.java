@@ -0,0 +1,92 @@
+package top.opendsp.ads.engine.budget;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.ads.engine.util.LongObjectHashMap;
+
+/**
+ * 预算层级
+ * 广告主 → 推广计划 → 广告组三级结构，由库存快照构建；上级预算用完时下级广告组全部视为预算用完
+ *
+ * @author weiping wang
+ */
+public final class BudgetTree {
+
+    public static final BudgetTree EMPTY = build(0L, Collections.emptyList());
+
+    private final long version;
+    private final LongObjectHashMap<int[]> campaignsByAdvertiser;
+    private final LongObjectHashMap<int[]> adGroupsByCampaign;
+
+    private BudgetTree(long version, LongObjectHashMap<int[]> campaignsByAdvertiser,
+            LongObjectHashMap<int[]> adGroupsByCampaign) {
+        this.version = version;
+        this.campaignsByAdvertiser = campaignsByAdvertiser;
+        this.adGroupsByCampaign = adGroupsByCampaign;
+    }
+
+    /**
+     * 根据库存快照中的广告组构建预算层级
+     *
+     * @param version 库存快照版本
+     */
+    public static BudgetTree build(long version, Collection<AdGroupRecord> adGroups) {
+        LongObjectHashMap<List<Integer>> campaigns = new LongObjectHashMap<>();
+        LongObjectHashMap<List<Integer>> campaignAdGroups = new LongObjectHashMap<>();
+        for (AdGroupRecord record : adGroups) {
+            List<Integer> children = campaignAdGroups.get(record.getCampaignId());
+            if (children == null) {
+                children = new ArrayList<>();
+                campaignAdGroups.put(record.getCampaignId(), children);
+                campaigns.computeIfAbsent(record.getAdvertiserId(), ArrayList::new).add(record.getCampaignId());
+            }
+            children.add(record.getId());
+        }
+
+        LongObjectHashMap<int[]> campaignsByAdvertiser = new LongObjectHashMap<>(campaigns.size());
+        campaigns.forEach((advertiserId, ids) -> campaignsByAdvertiser.put(advertiserId, toArray(ids)));
+        LongObjectHashMap<int[]> adGroupsByCampaign = new LongObjectHashMap<>(campaignAdGroups.size());
+        campaignAdGroups.forEach((campaignId, ids) -> adGroupsByCampaign.put(campaignId, toArray(ids)));
+        return new BudgetTree(version, campaignsByAdvertiser, adGroupsByCampaign);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 计算预算用完的广告组，自上而下判断，上级用完时不再判断下级
+     */
+    public RoaringBitmap exhaustedAdGroups(IntPredicate advertiserExhausted, IntPredicate campaignExhausted,
+            IntPredicate adGroupExhausted) {
+        RoaringBitmap exhausted = new RoaringBitmap();
+        campaignsByAdvertiser.forEach((advertiserId, campaignIds) -> {
+            boolean advertiserDone = advertiserExhausted.test((int) advertiserId);
+            for (int campaignId : campaignIds) {
+                int[] adGroupIds = adGroupsByCampaign.get(campaignId);
+                if (advertiserDone || campaignExhausted.test(campaignId)) {
+                    exhausted.add(adGroupIds);
+                    continue;
+                }
+                for (int adGroupId : adGroupIds) {
+                    if (adGroupExhausted.test(adGroupId)) {
+                        exhausted.add(adGroupId);
+                    }
+                }
+            }
+        });
+        exhausted.runOptimize();
+        return exhausted;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
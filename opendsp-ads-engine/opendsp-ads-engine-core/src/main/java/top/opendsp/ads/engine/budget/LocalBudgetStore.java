@@ -0,0 +1,54 @@
+package top.opendsp.ads.engine.budget;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 进程内的预算存储，只用于单引擎部署和本地调试
+ * 预算池不会过期，日预算池的键包含日期，每天新增的记录数与广告组数量相当
+ *
+ * @author weiping wang
+ */
+@Component
+@ConditionalOnProperty(prefix = "opendsp.engine.budget", name = "store", havingValue = "local")
+public class LocalBudgetStore implements BudgetStore {
+
+    private final ConcurrentHashMap<String, AtomicLong> claimed = new ConcurrentHashMap<>();
+
+    @Override
+    public long claim(String key, long limit, long amount, long ttlSeconds) {
+        AtomicLong counter = claimed.computeIfAbsent(key, k -> new AtomicLong());
+        while (true) {
+            long current = counter.get();
+            long grant = Math.min(amount, limit - current);
+            if (grant <= 0) {
+                return 0;
+            }
+            if (counter.compareAndSet(current, current + grant)) {
+                return grant;
+            }
+        }
+    }
+
+    @Override
+    public void release(String key, long amount) {
+        AtomicLong counter = claimed.get(key);
+        if (counter != null) {
+            counter.addAndGet(-amount);
+        }
+    }
+
+    @Override
+    public long[] claimed(List<String> keys) {
+        long[] claimed = new long[keys.size()];
+        for (int i = 0; i < claimed.length; i++) {
+            AtomicLong counter = this.claimed.get(keys.get(i));
+            claimed[i] = counter != null ? counter.get() : 0;
+        }
+        return claimed;
+    }
+}
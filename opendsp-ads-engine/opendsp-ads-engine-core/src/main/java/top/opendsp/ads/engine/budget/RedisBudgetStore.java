@@ -0,0 +1,62 @@
+package top.opendsp.ads.engine.budget;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 基于Redis的共享预算存储，多个引擎部署时使用
+ * 每个预算池是一个计数器，记录已领取的额度，通过Lua脚本原子地检查上限并领取
+ *
+ * @author weiping wang
+ */
+@Component
+@ConditionalOnProperty(prefix = "opendsp.engine.budget", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisBudgetStore implements BudgetStore {
+
+    /**
+     * 领取不超过剩余额度的部分，并刷新预算池的过期时间
+     * KEYS[1]: 预算池, ARGV[1]: 上限, ARGV[2]: 期望领取的额度, ARGV[3]: 过期时间（秒）
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+        "local claimed = tonumber(redis.call('GET', KEYS[1]) or '0') "
+            + "local grant = math.min(tonumber(ARGV[2]), tonumber(ARGV[1]) - claimed) "
+            + "if grant <= 0 then return 0 end "
+            + "redis.call('INCRBY', KEYS[1], grant) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "return grant", Long.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long claim(String key, long limit, long amount, long ttlSeconds) {
+        Long granted = stringRedisTemplate.execute(CLAIM_SCRIPT, Collections.singletonList(key),
+            String.valueOf(limit), String.valueOf(amount), String.valueOf(ttlSeconds));
+        return granted != null ? granted : 0;
+    }
+
+    @Override
+    public void release(String key, long amount) {
+        stringRedisTemplate.opsForValue().decrement(key, amount);
+    }
+
+    @Override
+    public long[] claimed(List<String> keys) {
+        long[] claimed = new long[keys.size()];
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values != null) {
+            for (int i = 0; i < claimed.length; i++) {
+                String value = values.get(i);
+                claimed[i] = value != null ? Long.parseLong(value) : 0;
+            }
+        }
+        return claimed;
+    }
+}
@@ -0,0 +1,73 @@
+package top.opendsp.ads.engine.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * 广告投放引擎配置
+ *
+ * @author weiping wang
+ */
+@Configuration
+public class AdsEngineConfiguration {
+
+    /**
+     * 广告位并行处理线程池
+     * 使用固定的平台线程而不是虚拟线程，候选批次和定向上下文按线程复用，虚拟线程无法复用这些对象
+     */
+    @Bean(name = "bidExecutor", destroyMethod = "shutdown")
+    public ExecutorService bidExecutor(AdsEngineProperties properties) {
+        AdsEngineProperties.Bid bid = properties.getBid();
+        return new ThreadPoolExecutor(bid.getExecutorThreads(), bid.getExecutorThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(bid.getExecutorQueueCapacity()),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-bid-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 流式竞价请求处理线程池，流的接收线程只负责分发请求
+     */
+    @Bean(name = "bidStreamExecutor", destroyMethod = "shutdown")
+    public ExecutorService bidStreamExecutor(AdsEngineProperties properties) {
+        AdsEngineProperties.Bid bid = properties.getBid();
+        return new ThreadPoolExecutor(bid.getStreamThreads(), bid.getStreamThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(bid.getStreamQueueCapacity()),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-bid-stream-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 用户频次预取线程池
+     * 广告位处理任务会等待预取结果，预取不能与广告位处理共用线程池，否则排在等待它的任务之后
+     */
+    @Bean(name = "frequencyExecutor", destroyMethod = "shutdown")
+    public ExecutorService frequencyExecutor(AdsEngineProperties properties) {
+        AdsEngineProperties.Frequency frequency = properties.getFrequency();
+        return new ThreadPoolExecutor(frequency.getPrefetchThreads(), frequency.getPrefetchThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(frequency.getPrefetchQueueCapacity()),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-frequency-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 预算异步续租线程池，每个租约同时只有一个续租任务，队列长度不超过租约数量
+     */
+    @Bean(name = "budgetExecutor", destroyMethod = "shutdown")
+    public ExecutorService budgetExecutor(AdsEngineProperties properties) {
+        int threads = properties.getBudget().getRenewThreads();
+        return new ThreadPoolExecutor(threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-budget-%d").setDaemon(true).build());
+    }
+}
@@ -0,0 +1,508 @@
+package top.opendsp.ads.engine.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+import top.opendsp.ads.engine.log.OverflowPolicy;
+import top.opendsp.ads.engine.metrics.PipelineStage;
+
+/**
+ * 广告投放引擎配置
+ *
+ * @author weiping wang
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "opendsp.engine")
+public class AdsEngineProperties {
+
+    private Bid bid = new Bid();
+
+    private Stage stage = new Stage();
+
+    private Frequency frequency = new Frequency();
+
+    private Budget budget = new Budget();
+
+    private Pacing pacing = new Pacing();
+
+    private BidLog bidLog = new BidLog();
+
+    private Prediction prediction = new Prediction();
+
+    private Performance performance = new Performance();
+
+    private OnlineLearning onlineLearning = new OnlineLearning();
+
+    private Shading shading = new Shading();
+
+    /**
+     * 竞价处理配置
+     */
+    @Data
+    public static class Bid {
+
+        /**
+         * 广告位并行处理线程数，默认为CPU核数的2倍
+         */
+        private int executorThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * 广告位处理任务队列长度，队列满时该广告位不参与竞价
+         */
+        private int executorQueueCapacity = 4096;
+
+        /**
+         * 请求未携带gRPC deadline时使用的默认超时时间，单位: 毫秒
+         */
+        private long defaultTimeout = 100;
+
+        /**
+         * 预留给响应序列化和网络传输的时间，单位: 毫秒
+         */
+        private long deadlineMargin = 10;
+
+        /**
+         * 流式竞价线程数，默认为CPU核数的2倍
+         */
+        private int streamThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * 流式竞价任务队列长度，队列满时直接返回空响应
+         */
+        private int streamQueueCapacity = 4096;
+
+        /**
+         * 流式竞价每个流同时处理的最大请求数（流控窗口）
+         */
+        private int streamWindow = 64;
+
+        /**
+         * 每个广告位最多返回的出价数
+         */
+        private int maxBidsPerImp = 3;
+
+        /**
+         * 每个广告位同一广告主最多返回的出价数，0表示不限
+         */
+        private int maxBidsPerAdvertiser = 0;
+    }
+
+    /**
+     * 竞价流水线各阶段的时间预算，单位: 毫秒
+     * 阶段的实际截止时间不会晚于请求截止时间；依赖外部存储的阶段超时后降级，纯内存阶段只记录超时次数
+     */
+    @Data
+    public static class Stage {
+
+        private long matchTimeout = 5;
+
+        private long targetingTimeout = 5;
+
+        /**
+         * 超时后剩余候选只使用已领取的预算租约
+         */
+        private long budgetTimeout = 10;
+
+        /**
+         * 等待频次预取结果的最长时间，超时后跳过频次检查
+         */
+        private long frequencyTimeout = 15;
+
+        private long pricingTimeout = 5;
+
+        private long buildTimeout = 5;
+
+        public long getTimeout(PipelineStage stage) {
+            switch (stage) {
+                case MATCH:
+                    return matchTimeout;
+                case TARGETING:
+                    return targetingTimeout;
+                case BUDGET:
+                    return budgetTimeout;
+                case FREQUENCY:
+                    return frequencyTimeout;
+                case PRICING:
+                    return pricingTimeout;
+                case BUILD:
+                    return buildTimeout;
+                default:
+                    return 0;
+            }
+        }
+    }
+
+    /**
+     * 频次控制配置
+     */
+    @Data
+    public static class Frequency {
+
+        /**
+         * 频次预取线程数，预取是Redis读取，与广告位处理线程池分开，默认为CPU核数的2倍
+         */
+        private int prefetchThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * 频次预取任务队列长度，队列满时该请求跳过频次检查并记录降级
+         */
+        private int prefetchQueueCapacity = 4096;
+
+        /**
+         * 是否启用本地频次近端缓存，启用后缓存时间内其他引擎产生的展示不可见
+         */
+        private boolean nearCacheEnabled = false;
+
+        private long nearCacheMaxSize = 100000;
+
+        /**
+         * 近端缓存过期时间，即允许的最大数据陈旧时间，单位: 毫秒
+         */
+        private long nearCacheTtl = 5000;
+
+        /**
+         * 是否启用待展示预留：已出价但展示通知尚未到达的广告组计入用户频次，避免并发请求超投；
+         * 预留按出价ID在竞价失败或计费通知到达时释放，ADX不发送竞价失败通知时，落败的出价在有效期内仍计入频次
+         */
+        private boolean reservationEnabled = true;
+
+        /**
+         * 预留的有效期，超过后视为未胜出或展示未发生，单位: 毫秒
+         */
+        private long reservationTtl = 30000;
+    }
+
+    /**
+     * 预算租约配置
+     */
+    @Data
+    public static class Budget {
+
+        /**
+         * 共享预算存储: redis-多个引擎共享，local-进程内存储，只用于单引擎部署
+         */
+        private String store = "redis";
+
+        /**
+         * 每次领取预算池上限的比例，比例越大访问共享存储越少，但停止投放前未用完的额度也越多
+         */
+        private double sliceRatio = 0.05;
+
+        /**
+         * 每次领取的最小额度，单位: 分
+         */
+        private long minSlice = 100;
+
+        /**
+         * 剩余额度低于上次领取额度的该比例时异步续租
+         */
+        private double renewRatio = 0.5;
+
+        /**
+         * 预算池领完或续租失败后再次领取的间隔，单位: 毫秒
+         */
+        private long retryInterval = 1000;
+
+        /**
+         * 异步续租线程数
+         */
+        private int renewThreads = 2;
+
+        /**
+         * 出价预留的有效期，超过后视为未胜出并退回预留，单位: 毫秒
+         */
+        private long reservationTtl = 60000;
+
+        /**
+         * 出价预留超时检查的时间轮tick间隔，单位: 毫秒
+         */
+        private long reservationTickDuration = 100;
+    }
+
+    /**
+     * 预算平滑配置，调整周期由opendsp.engine.pacing.interval指定，单位: 毫秒
+     */
+    @Data
+    public static class Pacing {
+
+        private boolean enabled = true;
+
+        /**
+         * 匀速投放广告组参与竞价的最低概率，保证预算进度能被重新观测
+         */
+        private double minPassRate = 0.01;
+
+        /**
+         * 每个调整周期概率变化的比例
+         */
+        private double adjustStep = 0.2;
+
+        /**
+         * 预算进度允许超前目标进度的比例，超过后开始降低概率
+         */
+        private double tolerance = 0.02;
+    }
+
+    /**
+     * 竞价日志写入配置
+     */
+    @Data
+    public static class BidLog {
+
+        /**
+         * 竞价日志输出: database-批量写入bid_log表，segment-写入本地日志段文件，由定时任务导入
+         */
+        private String sink = "database";
+
+        private int queueCapacity = 65536;
+
+        /**
+         * 每批写入的最大日志数
+         */
+        private int batchSize = 500;
+
+        /**
+         * 日志在队列中等待的最长时间，超过后不足一批也写入，单位: 毫秒
+         */
+        private long flushInterval = 1000;
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * SAMPLE策略的采样水位，队列使用率超过该值后开始采样
+         */
+        private double sampleWatermark = 0.75;
+
+        /**
+         * SAMPLE策略超过水位后每sampleRate条日志保留1条
+         */
+        private int sampleRate = 10;
+
+        /**
+         * BLOCK策略竞价线程的最长等待时间，单位: 毫秒
+         */
+        private long blockTimeout = 5;
+
+        /**
+         * 日志段文件目录
+         */
+        private String segmentDir = "data/bidlog";
+
+        /**
+         * 日志段文件大小，单位: 字节
+         */
+        private int segmentSize = 64 * 1024 * 1024;
+
+        /**
+         * 日志段最长打开时间，超过后即使未写满也关闭，单位: 毫秒
+         */
+        private long segmentMaxAge = 60000;
+
+        /**
+         * 是否为日志段生成请求ID索引
+         */
+        private boolean segmentIndexEnabled = false;
+    }
+
+    /**
+     * 点击率/转化率预估配置，模型文件检查周期由opendsp.engine.prediction.reload-interval指定，单位: 毫秒
+     */
+    @Data
+    public static class Prediction {
+
+        /**
+         * 模型文件目录
+         */
+        private String modelDir = "data/model";
+
+        private String ctrModelFile = "ctr.model";
+
+        private String cvrModelFile = "cvr.model";
+
+        /**
+         * 没有可用模型时的先验点击率（点击/展示）
+         */
+        private double defaultCtr = 0.01;
+
+        /**
+         * 没有可用模型时的先验转化率（转化/点击）
+         */
+        private double defaultCvr = 0.1;
+
+        /**
+         * 预估点击率上限，出价和内部竞价的出价上界都按该值截断
+         */
+        private double maxCtr = 0.3;
+
+        /**
+         * 预估转化率上限
+         */
+        private double maxCvr = 1;
+    }
+
+    /**
+     * 历史效果特征配置，刷新周期由opendsp.engine.performance.refresh-interval指定，单位: 毫秒；
+     * 点击率的先验值使用预估配置中的先验概率
+     */
+    @Data
+    public static class Performance {
+
+        /**
+         * 读取最近几天的小时统计
+         */
+        private int lookbackDays = 7;
+
+        /**
+         * 统计数据的衰减半衰期，单位: 小时
+         */
+        private double halfLifeHours = 24;
+
+        /**
+         * 先验等效的展示数，展示少于该值时点击率接近先验值
+         */
+        private double priorStrength = 100;
+    }
+
+    /**
+     * 点击率在线学习配置
+     */
+    @Data
+    public static class OnlineLearning {
+
+        /**
+         * 是否启用在线学习，关闭后只使用离线模型
+         */
+        private boolean enabled = true;
+
+        /**
+         * 权重表大小为2的hashBits次方
+         */
+        private int hashBits = 20;
+
+        /**
+         * FTRL学习率参数
+         */
+        private double alpha = 0.05;
+
+        private double beta = 1;
+
+        /**
+         * L1正则系数，越大权重越稀疏
+         */
+        private double l1 = 1;
+
+        /**
+         * L2正则系数
+         */
+        private double l2 = 1;
+
+        /**
+         * 出价后等待展示通知的时间，超时未展示的出价不参与训练，单位: 毫秒
+         */
+        private long impressionTimeout = 120000;
+
+        /**
+         * 展示后等待点击的时间，超时未点击的展示作为负样本，单位: 毫秒
+         */
+        private long clickWindow = 600000;
+
+        /**
+         * 超时时间轮的刻度，单位: 毫秒
+         */
+        private long tickDuration = 1000;
+
+        /**
+         * 最多同时等待展示的出价数，超过后不再记录新的出价
+         */
+        private int maxPending = 1000000;
+
+        /**
+         * 待训练样本队列长度，队列满时丢弃样本
+         */
+        private int queueCapacity = 65536;
+
+        /**
+         * 发布权重快照的间隔，单位: 毫秒
+         */
+        private long publishInterval = 5000;
+    }
+
+    /**
+     * 一价竞价出价调整配置，价格单位为千次展示价格（分）
+     */
+    @Data
+    public static class Shading {
+
+        /**
+         * 是否启用出价调整，关闭后一价请求按估值出价
+         */
+        private boolean enabled = true;
+
+        /**
+         * 请求扩展字段中ADX标识的键，与媒体广告位id共同确定胜率曲线
+         */
+        private String adxExtKey = "adx_id";
+
+        /**
+         * 价格分档的最低价
+         */
+        private float minPrice = 1;
+
+        /**
+         * 价格分档的最高价
+         */
+        private float maxPrice = 100000;
+
+        /**
+         * 价格档位数
+         */
+        private int priceBuckets = 64;
+
+        /**
+         * 调整后的出价不低于估值的比例
+         */
+        private double minShadingRatio = 0.3;
+
+        /**
+         * 衰减后的出价次数达到该值才拟合胜率曲线，之前按估值出价
+         */
+        private double minSamples = 200;
+
+        /**
+         * 衰减后的出价次数低于该值时移除广告位的胜率曲线
+         */
+        private double evictThreshold = 0.5;
+
+        /**
+         * 计数衰减的半衰期，单位: 毫秒
+         */
+        private long halfLife = 21600000;
+
+        /**
+         * 重新拟合胜率曲线的间隔，单位: 毫秒
+         */
+        private long refitInterval = 10000;
+
+        /**
+         * 等待胜出或竞价失败通知的时间，超时按竞价失败计入，单位: 毫秒
+         */
+        private long noticeTimeout = 60000;
+
+        /**
+         * 超时时间轮的刻度，单位: 毫秒
+         */
+        private long tickDuration = 100;
+
+        /**
+         * 最多同时等待通知的出价数
+         */
+        private int maxPending = 1000000;
+
+        /**
+         * 最多维护的广告位胜率曲线数
+         */
+        private int maxLandscapes = 100000;
+    }
+}
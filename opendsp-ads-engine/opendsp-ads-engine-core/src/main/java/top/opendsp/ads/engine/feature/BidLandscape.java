@@ -0,0 +1,147 @@
+package top.opendsp.ads.engine.feature;
+
+/**
+ * 单个广告位的出价胜率曲线
+ * 按价格档位累计出价次数和胜出次数，计数随时间指数衰减；定期将各档胜率按保序回归拟合为随出价单调不减的曲线，
+ * 空档位在相邻有数据的档位之间线性插值。计数更新加锁，竞价线程只读取已发布的曲线
+ *
+ * @author weiping wang
+ */
+public final class BidLandscape {
+
+    private final PriceGrid grid;
+    private final double[] bids;
+    private final double[] wins;
+    private double totalBids;
+
+    /**
+     * 已拟合的胜率曲线，样本不足时为null
+     */
+    private volatile float[] winRates;
+
+    public BidLandscape(PriceGrid grid) {
+        this.grid = grid;
+        this.bids = new double[grid.size()];
+        this.wins = new double[grid.size()];
+    }
+
+    /**
+     * 记录一次出价结果
+     */
+    public synchronized void record(float price, boolean won) {
+        int bucket = grid.bucket(price);
+        bids[bucket] += 1;
+        if (won) {
+            wins[bucket] += 1;
+        }
+        totalBids += 1;
+    }
+
+    /**
+     * 衰减计数并重新拟合胜率曲线，衰减后的出价次数少于minSamples时不发布曲线
+     *
+     * @param decay 计数的衰减系数
+     * @return 衰减后的出价次数
+     */
+    public synchronized double refit(double decay, double minSamples) {
+        totalBids = 0;
+        for (int i = 0; i < bids.length; i++) {
+            bids[i] *= decay;
+            wins[i] *= decay;
+            totalBids += bids[i];
+        }
+        winRates = totalBids >= minSamples ? fit() : null;
+        return totalBids;
+    }
+
+    /**
+     * 在价格档位上界中选择期望收益(value - price) × 胜率最大的出价，不低于minPrice；
+     * 曲线未拟合或各档期望收益均为0时返回原价值
+     *
+     * @param value 广告对该次展示的估值，千次展示价格（分）
+     */
+    public float shade(float value, float minPrice) {
+        float[] rates = winRates;
+        if (rates == null || value <= minPrice) {
+            return value;
+        }
+        float bestPrice = value;
+        float bestSurplus = 0;
+        int top = grid.bucket(value);
+        for (int i = grid.bucket(minPrice); i <= top; i++) {
+            float price = grid.upperPrice(i);
+            if (price >= value) {
+                break;
+            }
+            float surplus = (value - price) * rates[i];
+            if (surplus > bestSurplus) {
+                bestSurplus = surplus;
+                bestPrice = price;
+            }
+        }
+        return bestPrice;
+    }
+
+    /**
+     * 指定价格的拟合胜率，曲线未拟合时返回-1
+     */
+    public float winRate(float price) {
+        float[] rates = winRates;
+        return rates == null ? -1 : rates[grid.bucket(price)];
+    }
+
+    /**
+     * 按出价次数加权的保序回归（相邻违序合并），再对空档位插值
+     */
+    private float[] fit() {
+        int n = bids.length;
+        double[] blockRate = new double[n];
+        double[] blockWeight = new double[n];
+        int[] blockEnd = new int[n];
+        int blocks = 0;
+        for (int i = 0; i < n; i++) {
+            if (bids[i] <= 0) {
+                continue;
+            }
+            blockRate[blocks] = wins[i] / bids[i];
+            blockWeight[blocks] = bids[i];
+            blockEnd[blocks] = i;
+            blocks++;
+            while (blocks > 1 && blockRate[blocks - 2] > blockRate[blocks - 1]) {
+                double weight = blockWeight[blocks - 2] + blockWeight[blocks - 1];
+                blockRate[blocks - 2] = (blockRate[blocks - 2] * blockWeight[blocks - 2]
+                    + blockRate[blocks - 1] * blockWeight[blocks - 1]) / weight;
+                blockWeight[blocks - 2] = weight;
+                blockEnd[blocks - 2] = blockEnd[blocks - 1];
+                blocks--;
+            }
+        }
+
+        // 有数据的档位取所在合并块的胜率，标记为-1的空档位随后插值
+        float[] rates = new float[n];
+        int block = 0;
+        for (int i = 0; i < n; i++) {
+            while (block < blocks - 1 && blockEnd[block] < i) {
+                block++;
+            }
+            rates[i] = bids[i] > 0 ? (float) blockRate[block] : -1;
+        }
+
+        // 最低有数据档位以下从0线性增长，最高有数据档位以上保持不变
+        int previous = -1;
+        for (int i = 0; i < n; i++) {
+            if (rates[i] < 0) {
+                continue;
+            }
+            float start = previous < 0 ? 0 : rates[previous];
+            for (int j = previous + 1; j < i; j++) {
+                rates[j] = start + (rates[i] - start) * (j - previous) / (i - previous);
+            }
+            previous = i;
+        }
+        for (int j = previous + 1; j < n; j++) {
+            rates[j] = previous < 0 ? 0 : rates[previous];
+        }
+        return rates;
+    }
+}
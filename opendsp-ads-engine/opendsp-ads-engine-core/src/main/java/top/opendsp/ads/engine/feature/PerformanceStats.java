@@ -0,0 +1,69 @@
+package top.opendsp.ads.engine.feature;
+
+/**
+ * 历史效果特征快照，保存创意近期的点击率，用于出价的质量分调整
+ * 由定时任务从小时统计数据整体重建后替换，竞价线程只读
+ *
+ * @author weiping wang
+ */
+public final class PerformanceStats {
+
+    private final long buildTime;
+    private final PerformanceTable creatives;
+
+    private PerformanceStats(long buildTime, PerformanceTable creatives) {
+        this.buildTime = buildTime;
+        this.creatives = creatives;
+    }
+
+    /**
+     * 没有历史数据时的快照，全部返回先验值
+     */
+    public static PerformanceStats empty(float priorCtr) {
+        return new PerformanceStats(0, PerformanceTable.empty(priorCtr));
+    }
+
+    public long getBuildTime() {
+        return buildTime;
+    }
+
+    public PerformanceTable getCreatives() {
+        return creatives;
+    }
+
+    /**
+     * 效果快照构建器
+     * 每行小时统计按距离当前的小时数指数衰减后累加，半衰期越短越偏重近期表现
+     */
+    public static final class Builder {
+
+        private final long now;
+        private final double halfLifeHours;
+        private final PerformanceTable.Builder creatives = new PerformanceTable.Builder();
+
+        /**
+         * @param now 构建时刻，毫秒时间戳
+         * @param halfLifeHours 衰减半衰期，单位: 小时
+         */
+        public Builder(long now, double halfLifeHours) {
+            this.now = now;
+            this.halfLifeHours = halfLifeHours;
+        }
+
+        /**
+         * 累加一行小时统计
+         *
+         * @param hourStart 统计小时的开始时刻，毫秒时间戳
+         */
+        public Builder add(long hourStart, int creativeId, long impressions, long clicks) {
+            double ageHours = Math.max(0, (now - hourStart) / 3_600_000d);
+            double weight = Math.pow(0.5, ageHours / halfLifeHours);
+            creatives.add(creativeId, weight, impressions, clicks);
+            return this;
+        }
+
+        public PerformanceStats build(float priorCtr, double priorStrength) {
+            return new PerformanceStats(now, creatives.build(priorCtr, priorStrength));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package top.opendsp.ads.engine.feature;
+
+import java.util.Arrays;
+
+import top.opendsp.ads.engine.util.LongIntHashMap;
+
+/**
+ * 创意维度的历史效果表
+ * 以创意id为键索引到点击率数组，没有历史数据的id返回先验值；构建完成后只读
+ *
+ * @author weiping wang
+ */
+public final class PerformanceTable {
+
+    private static final int NOT_FOUND = -1;
+
+    private final LongIntHashMap index;
+    private final float[] ctr;
+    private final float priorCtr;
+
+    private PerformanceTable(LongIntHashMap index, float[] ctr, float priorCtr) {
+        this.index = index;
+        this.ctr = ctr;
+        this.priorCtr = priorCtr;
+    }
+
+    static PerformanceTable empty(float priorCtr) {
+        return new PerformanceTable(new LongIntHashMap(4), new float[0], priorCtr);
+    }
+
+    /**
+     * 平滑后的点击率（点击/展示）
+     */
+    public float ctr(int id) {
+        int row = index.get(id, NOT_FOUND);
+        return row == NOT_FOUND ? priorCtr : ctr[row];
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 效果表构建器，累加按时间衰减后的计数，构建时按先验做贝叶斯平滑
+     */
+    static final class Builder {
+
+        private final LongIntHashMap index = new LongIntHashMap();
+        private double[] impressions = new double[16];
+        private double[] clicks = new double[16];
+        private int size;
+
+        void add(int id, double weight, long impressions, long clicks) {
+            int row = index.get(id, NOT_FOUND);
+            if (row == NOT_FOUND) {
+                row = size++;
+                index.put(id, row);
+                if (row == this.impressions.length) {
+                    int capacity = row << 1;
+                    this.impressions = Arrays.copyOf(this.impressions, capacity);
+                    this.clicks = Arrays.copyOf(this.clicks, capacity);
+                }
+            }
+            this.impressions[row] += weight * impressions;
+            this.clicks[row] += weight * clicks;
+        }
+
+        /**
+         * @param priorStrength 先验等效的展示数，展示越少越接近先验值
+         */
+        PerformanceTable build(float priorCtr, double priorStrength) {
+            float[] ctr = new float[size];
+            for (int i = 0; i < size; i++) {
+                ctr[i] = (float) ((clicks[i] + priorCtr * priorStrength) / (impressions[i] + priorStrength));
+            }
+            return new PerformanceTable(index, ctr, priorCtr);
+        }
+    }
+}
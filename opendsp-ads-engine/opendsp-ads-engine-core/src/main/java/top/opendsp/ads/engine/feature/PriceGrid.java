@@ -0,0 +1,53 @@
+package top.opendsp.ads.engine.feature;
+
+/**
+ * 出价价格分档
+ * 在最低价和最高价之间按对数等比划分价格档位，低价区间分辨率更高；价格单位为千次展示价格（分）
+ *
+ * @author weiping wang
+ */
+public final class PriceGrid {
+
+    private final float minPrice;
+    private final int size;
+    private final double logMin;
+    private final double logStep;
+    private final float[] upperPrices;
+
+    public PriceGrid(float minPrice, float maxPrice, int size) {
+        if (minPrice <= 0 || maxPrice <= minPrice || size < 2) {
+            throw new IllegalArgumentException("价格分档参数无效, minPrice: " + minPrice + ", maxPrice: " + maxPrice
+                + ", size: " + size);
+        }
+        this.minPrice = minPrice;
+        this.size = size;
+        this.logMin = Math.log(minPrice);
+        this.logStep = (Math.log(maxPrice) - logMin) / size;
+        this.upperPrices = new float[size];
+        for (int i = 0; i < size; i++) {
+            upperPrices[i] = (float) Math.exp(logMin + (i + 1) * logStep);
+        }
+    }
+
+    /**
+     * 价格所在的档位，超出范围的价格归入首档或末档
+     */
+    public int bucket(float price) {
+        if (price <= minPrice) {
+            return 0;
+        }
+        int bucket = (int) ((Math.log(price) - logMin) / logStep);
+        return Math.min(bucket, size - 1);
+    }
+
+    /**
+     * 档位的价格上界
+     */
+    public float upperPrice(int bucket) {
+        return upperPrices[bucket];
+    }
+
+    public int size() {
+        return size;
+    }
+}
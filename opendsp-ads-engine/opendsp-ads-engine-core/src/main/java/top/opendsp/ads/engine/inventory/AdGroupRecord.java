@@ -0,0 +1,163 @@
+package top.opendsp.ads.engine.inventory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.javagossip.opendsp.model.AdGroup;
+import io.github.javagossip.opendsp.model.Campaign;
+import io.github.javagossip.opendsp.model.Creative;
+
+/**
+ * 广告组快照记录
+ * 监测地址、投放起止时间、定向规则、频次规则等字段在快照构建时一次性解析，构建完成后只读
+ *
+ * @author weiping wang
+ */
+public final class AdGroupRecord {
+
+    private final AdGroup adGroup;
+    private final List<Creative> creatives;
+    private final List<String> impTrackers;
+    private final List<String> clickTrackers;
+    private final long beginTime;
+    private final long endTime;
+    private final int bidPrice;
+    private final long budget;
+    private final long campaignBudget;
+    private final int biddingMethod;
+    private final int promotionType;
+    private final FrequencyRule frequencyRule;
+    private final TargetingRule targetingRule;
+    private final PacingCurve pacingCurve;
+
+    AdGroupRecord(AdGroup adGroup, Campaign campaign, List<Creative> creatives, TargetingDictionary dictionary) {
+        this.adGroup = adGroup;
+        this.creatives = Collections.unmodifiableList(creatives);
+        this.impTrackers = parseTrackingUrls(adGroup.getImpTrackingUrls());
+        this.clickTrackers = parseTrackingUrls(adGroup.getClickTrackingUrls());
+        this.beginTime = toEpochMilli(adGroup.getBeginDate(), Long.MIN_VALUE);
+        this.endTime = toEpochMilli(adGroup.getEndDate(), Long.MAX_VALUE);
+        this.bidPrice = valueOf(adGroup.getBidPrice(), 0);
+        this.budget = valueOf(adGroup.getBudget(), 0);
+        this.campaignBudget = valueOf(campaign.getBudget(), 0);
+        this.biddingMethod = valueOf(adGroup.getBiddingMethod(), 1); // 默认CPM
+        this.promotionType = valueOf(adGroup.getPromotionType(), 0);
+        this.frequencyRule = FrequencyRule.compile(adGroup.getFreqCapping());
+        this.targetingRule = TargetingRule.compile(adGroup, dictionary);
+        this.pacingCurve = PacingCurve.compile(adGroup.getTimeSlots(), adGroup.getDeliveryMode());
+    }
+
+    public int getId() {
+        return adGroup.getId();
+    }
+
+    public int getAdvertiserId() {
+        return adGroup.getAdvertiserId();
+    }
+
+    public int getCampaignId() {
+        return adGroup.getCampaignId();
+    }
+
+    public String getDealId() {
+        return adGroup.getDealId();
+    }
+
+    public AdGroup getAdGroup() {
+        return adGroup;
+    }
+
+    public List<Creative> getCreatives() {
+        return creatives;
+    }
+
+    public List<String> getImpTrackers() {
+        return impTrackers;
+    }
+
+    public List<String> getClickTrackers() {
+        return clickTrackers;
+    }
+
+    /**
+     * 基础出价，单位: 分
+     */
+    public int getBidPrice() {
+        return bidPrice;
+    }
+
+    /**
+     * 每日投放预算，单位: 分，未设置时为0
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * 所属推广计划的每日预算，单位: 分，未设置时为0，表示推广计划不限预算
+     */
+    public long getCampaignBudget() {
+        return campaignBudget;
+    }
+
+    public int getBiddingMethod() {
+        return biddingMethod;
+    }
+
+    public int getPromotionType() {
+        return promotionType;
+    }
+
+    /**
+     * 频次控制规则，未设置频次控制时为{@link FrequencyRule#NONE}
+     */
+    public FrequencyRule getFrequencyRule() {
+        return frequencyRule;
+    }
+
+    public TargetingRule getTargetingRule() {
+        return targetingRule;
+    }
+
+    /**
+     * 日内花费目标曲线，全天投放且不匀速时为{@link PacingCurve#UNPACED}
+     */
+    public PacingCurve getPacingCurve() {
+        return pacingCurve;
+    }
+
+    /**
+     * 判断广告组在指定时刻是否处于投放期
+     */
+    public boolean isServing(long now) {
+        return beginTime <= now && now <= endTime;
+    }
+
+    private static int valueOf(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime, long defaultValue) {
+        if (dateTime == null) {
+            return defaultValue;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static List<String> parseTrackingUrls(String trackingUrls) {
+        if (trackingUrls == null || trackingUrls.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> urls = new ArrayList<>();
+        for (String url : trackingUrls.split(",")) {
+            String trimmed = url.trim();
+            if (!trimmed.isEmpty()) {
+                urls.add(trimmed);
+            }
+        }
+        return Collections.unmodifiableList(urls);
+    }
+}
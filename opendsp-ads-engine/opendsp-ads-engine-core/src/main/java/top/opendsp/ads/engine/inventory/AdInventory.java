@@ -0,0 +1,132 @@
+package top.opendsp.ads.engine.inventory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.javagossip.opendsp.model.AdGroup;
+import io.github.javagossip.opendsp.model.AdSlot;
+import io.github.javagossip.opendsp.model.Campaign;
+import io.github.javagossip.opendsp.model.Creative;
+
+/**
+ * 广告库存快照
+ * 包含有效广告位、推广计划、广告组及审核通过的创意，构建完成后不可变，刷新时整体替换
+ *
+ * @author weiping wang
+ */
+public final class AdInventory {
+
+    public static final AdInventory EMPTY = build(0L, new TargetingDictionary(), Collections.emptyList(),
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    private final long version;
+    private final long buildTime;
+    private final TargetingDictionary targetingDictionary;
+    private final List<AdSlot> slots;
+    private final SlotIndex slotIndex;
+    private final TargetingIndex targetingIndex;
+    private final Map<Integer, AdGroupRecord> adGroups;
+    private final Map<Integer, List<AdGroupRecord>> adGroupsBySlot;
+
+    private AdInventory(long version, long buildTime, TargetingDictionary targetingDictionary, List<AdSlot> slots,
+            SlotIndex slotIndex, TargetingIndex targetingIndex, Map<Integer, AdGroupRecord> adGroups,
+            Map<Integer, List<AdGroupRecord>> adGroupsBySlot) {
+        this.version = version;
+        this.buildTime = buildTime;
+        this.targetingDictionary = targetingDictionary;
+        this.slots = slots;
+        this.slotIndex = slotIndex;
+        this.targetingIndex = targetingIndex;
+        this.adGroups = adGroups;
+        this.adGroupsBySlot = adGroupsBySlot;
+    }
+
+    /**
+     * 根据批量加载的数据构建库存快照
+     * 没有可投放创意、所属推广计划或广告位无效的广告组不会进入快照，定向配置使用传入的字典编译
+     */
+    public static AdInventory build(long version, TargetingDictionary targetingDictionary, List<AdSlot> slots,
+            List<Campaign> campaigns, List<AdGroup> adGroups, List<Creative> creatives) {
+        Map<Integer, AdSlot> slotMap = new HashMap<>();
+        for (AdSlot slot : slots) {
+            slotMap.put(slot.getId(), slot);
+        }
+
+        Map<Integer, Campaign> campaignMap = new HashMap<>();
+        for (Campaign campaign : campaigns) {
+            campaignMap.put(campaign.getId(), campaign);
+        }
+
+        Map<Integer, List<Creative>> creativesByAdGroup = new HashMap<>();
+        for (Creative creative : creatives) {
+            creativesByAdGroup.computeIfAbsent(creative.getAdGroupId(), k -> new ArrayList<>()).add(creative);
+        }
+
+        Map<Integer, AdGroupRecord> adGroupMap = new HashMap<>();
+        Map<Integer, List<AdGroupRecord>> adGroupsBySlot = new HashMap<>();
+        for (AdGroup adGroup : adGroups) {
+            List<Creative> adGroupCreatives = creativesByAdGroup.get(adGroup.getId());
+            Campaign campaign = campaignMap.get(adGroup.getCampaignId());
+            if (adGroupCreatives == null || campaign == null || !slotMap.containsKey(adGroup.getAdSlotId())) {
+                continue;
+            }
+            AdGroupRecord record = new AdGroupRecord(adGroup, campaign, adGroupCreatives, targetingDictionary);
+            adGroupMap.put(adGroup.getId(), record);
+            adGroupsBySlot.computeIfAbsent(adGroup.getAdSlotId(), k -> new ArrayList<>()).add(record);
+        }
+        adGroupsBySlot.replaceAll((slotId, records) -> Collections.unmodifiableList(records));
+
+        return new AdInventory(version, System.currentTimeMillis(), targetingDictionary,
+                Collections.unmodifiableList(slots),
+                SlotIndex.build(slots), TargetingIndex.build(adGroupMap.values()),
+                Collections.unmodifiableMap(adGroupMap), Collections.unmodifiableMap(adGroupsBySlot));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getBuildTime() {
+        return buildTime;
+    }
+
+    public TargetingDictionary getTargetingDictionary() {
+        return targetingDictionary;
+    }
+
+    public List<AdSlot> getSlots() {
+        return slots;
+    }
+
+    public SlotIndex getSlotIndex() {
+        return slotIndex;
+    }
+
+    public TargetingIndex getTargetingIndex() {
+        return targetingIndex;
+    }
+
+    public AdGroupRecord getAdGroup(int adGroupId) {
+        return adGroups.get(adGroupId);
+    }
+
+    public int getAdGroupCount() {
+        return adGroups.size();
+    }
+
+    public Collection<AdGroupRecord> getAdGroups() {
+        return adGroups.values();
+    }
+
+    /**
+     * 获取广告位下的广告组
+     */
+    public List<AdGroupRecord> getAdGroups(int adSlotId) {
+        List<AdGroupRecord> records = adGroupsBySlot.get(adSlotId);
+        return records != null ? records : Collections.emptyList();
+    }
+}
@@ -0,0 +1,78 @@
+package top.opendsp.ads.engine.inventory;
+
+import io.github.javagossip.opendsp.model.FreqCapping;
+
+/**
+ * 预编译的广告组频次控制规则
+ * 每个时间窗口一个频次上限，0表示该窗口不限；同一广告组可以同时在多个窗口上限制
+ *
+ * @author weiping wang
+ */
+public final class FrequencyRule {
+
+    public static final FrequencyRule NONE = new FrequencyRule(new int[FrequencyWindow.values().length]);
+
+    private static final FrequencyWindow[] WINDOWS = FrequencyWindow.values();
+
+    private final int[] limits;
+    private final boolean capped;
+
+    private FrequencyRule(int[] limits) {
+        this.limits = limits;
+        boolean capped = false;
+        for (int limit : limits) {
+            capped |= limit > 0;
+        }
+        this.capped = capped;
+    }
+
+    /**
+     * 编译广告组的频次控制配置，同一窗口配置多次时取最小上限
+     */
+    static FrequencyRule compile(FreqCapping freqCapping) {
+        if (freqCapping == null) {
+            return NONE;
+        }
+        int[] limits = new int[WINDOWS.length];
+        addLimit(limits, freqCapping);
+        if (freqCapping.getWindows() != null) {
+            for (FreqCapping window : freqCapping.getWindows()) {
+                addLimit(limits, window);
+            }
+        }
+        FrequencyRule rule = new FrequencyRule(limits);
+        return rule.capped ? rule : NONE;
+    }
+
+    public boolean isCapped() {
+        return capped;
+    }
+
+    public int getLimit(FrequencyWindow window) {
+        return limits[window.ordinal()];
+    }
+
+    /**
+     * 判断当前各窗口的展示次数是否都未达到上限
+     *
+     * @param counts 按{@link FrequencyWindow#pack(long)}打包的各窗口展示次数
+     */
+    public boolean allows(long counts) {
+        for (FrequencyWindow window : WINDOWS) {
+            int limit = limits[window.ordinal()];
+            if (limit > 0 && window.unpack(counts) >= limit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addLimit(int[] limits, FreqCapping freqCapping) {
+        if (freqCapping == null || freqCapping.getFrequency() == null || freqCapping.getFrequency() <= 0) {
+            return;
+        }
+        int index = FrequencyWindow.fromTimeWindow(freqCapping.getTimeWindow()).ordinal();
+        int frequency = freqCapping.getFrequency();
+        limits[index] = limits[index] > 0 ? Math.min(limits[index], frequency) : frequency;
+    }
+}
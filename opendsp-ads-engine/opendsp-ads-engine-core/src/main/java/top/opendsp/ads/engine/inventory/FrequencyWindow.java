@@ -0,0 +1,67 @@
+package top.opendsp.ads.engine.inventory;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 频次控制时间窗口
+ * 窗口编号按本地时区的自然小时、自然日、自然周（周一开始）和自然月计算，只保留低16位用于判断是否同一窗口
+ *
+ * @author weiping wang
+ */
+public enum FrequencyWindow {
+
+    HOUR,
+    DAY,
+    WEEK,
+    MONTH;
+
+    private static final FrequencyWindow[] WINDOWS = values();
+
+    /**
+     * 计数记录的保留时间，覆盖最长的自然月窗口
+     */
+    public static final long RECORD_TTL_SECONDS = TimeUnit.DAYS.toSeconds(32);
+
+    /**
+     * 解析FreqCapping中的时间窗口：0-hour,1-day,2-week,3-month，无法识别时按天处理
+     */
+    public static FrequencyWindow fromTimeWindow(Integer timeWindow) {
+        if (timeWindow == null || timeWindow < 0 || timeWindow >= WINDOWS.length) {
+            return DAY;
+        }
+        return WINDOWS[timeWindow];
+    }
+
+    /**
+     * 计算指定时刻各窗口的编号，按窗口顺序每16位存放一个
+     */
+    public static long currentWindows(long epochMillis) {
+        long offsetMillis = ZoneId.systemDefault().getRules()
+            .getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+        long localMillis = epochMillis + offsetMillis;
+        long hour = Math.floorDiv(localMillis, TimeUnit.HOURS.toMillis(1));
+        long day = Math.floorDiv(localMillis, TimeUnit.DAYS.toMillis(1));
+        // 1970-01-01是周四，加3后按周一对齐
+        long week = Math.floorDiv(day + 3, 7);
+        LocalDate date = LocalDate.ofEpochDay(day);
+        long month = (date.getYear() - 1970) * 12L + date.getMonthValue() - 1;
+        return HOUR.pack(hour) | DAY.pack(day) | WEEK.pack(week) | MONTH.pack(month);
+    }
+
+    /**
+     * 从按窗口打包的值中取出当前窗口对应的16位数值
+     */
+    public int unpack(long packed) {
+        return (int) ((packed >>> (ordinal() * 16)) & 0xFFFF);
+    }
+
+    /**
+     * 将16位数值放到当前窗口对应的位置
+     */
+    public long pack(long value) {
+        return (value & 0xFFFF) << (ordinal() * 16);
+    }
+}
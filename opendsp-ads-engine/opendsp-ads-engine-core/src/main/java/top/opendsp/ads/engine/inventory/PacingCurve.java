@@ -0,0 +1,112 @@
+package top.opendsp.ads.engine.inventory;
+
+/**
+ * 广告组日内花费目标曲线
+ * 由投放时间段（如"0-23"、"8-12,18-22"）和投放模式编译而成：投放时间段外不投放；
+ * 匀速投放时预算在投放时间段内均匀分配，曲线给出截至某一时刻应完成的日预算比例
+ *
+ * @author weiping wang
+ */
+public final class PacingCurve {
+
+    /**
+     * 投放模式：匀速投放
+     */
+    public static final int DELIVERY_MODE_UNIFORM = 2;
+
+    private static final int HOURS_PER_DAY = 24;
+
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    private static final int ALL_HOURS = (1 << HOURS_PER_DAY) - 1;
+
+    /**
+     * 全天投放且不匀速的曲线
+     */
+    public static final PacingCurve UNPACED = new PacingCurve(ALL_HOURS, false);
+
+    private final int hourMask;
+    private final boolean uniform;
+
+    /**
+     * 截至每个整点应完成的预算比例，cumulative[h]为h点整时的比例，cumulative[24]为1
+     */
+    private final float[] cumulative;
+
+    private PacingCurve(int hourMask, boolean uniform) {
+        this.hourMask = hourMask;
+        this.uniform = uniform;
+        this.cumulative = new float[HOURS_PER_DAY + 1];
+        int activeHours = Integer.bitCount(hourMask);
+        int elapsed = 0;
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            cumulative[hour] = activeHours > 0 ? (float) elapsed / activeHours : 1f;
+            if (isActive(hour)) {
+                elapsed++;
+            }
+        }
+        cumulative[HOURS_PER_DAY] = 1f;
+    }
+
+    /**
+     * 编译投放时间段和投放模式，投放时间段为空时全天投放
+     */
+    static PacingCurve compile(String timeSlots, Integer deliveryMode) {
+        boolean uniform = deliveryMode != null && deliveryMode == DELIVERY_MODE_UNIFORM;
+        int hourMask = parseHourMask(timeSlots);
+        if (hourMask == ALL_HOURS && !uniform) {
+            return UNPACED;
+        }
+        return new PacingCurve(hourMask, uniform);
+    }
+
+    /**
+     * 指定小时是否在投放时间段内
+     */
+    public boolean isActive(int hour) {
+        return (hourMask & (1 << hour)) != 0;
+    }
+
+    /**
+     * 是否匀速投放
+     */
+    public boolean isUniform() {
+        return uniform;
+    }
+
+    /**
+     * 截至当天某一时刻应完成的日预算比例，整点之间线性插值
+     *
+     * @param secondOfDay 当天的第几秒
+     */
+    public double targetFraction(int secondOfDay) {
+        int hour = Math.min(secondOfDay / SECONDS_PER_HOUR, HOURS_PER_DAY - 1);
+        double progress = (double) (secondOfDay - hour * SECONDS_PER_HOUR) / SECONDS_PER_HOUR;
+        return cumulative[hour] + (cumulative[hour + 1] - cumulative[hour]) * progress;
+    }
+
+    private static int parseHourMask(String timeSlots) {
+        if (timeSlots == null || timeSlots.trim().isEmpty()) {
+            return ALL_HOURS;
+        }
+        int mask = 0;
+        for (String slot : timeSlots.split(",")) {
+            String value = slot.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            int separator = value.indexOf('-');
+            try {
+                int from = Integer.parseInt(separator < 0 ? value : value.substring(0, separator).trim());
+                int to = separator < 0 ? from : Integer.parseInt(value.substring(separator + 1).trim());
+                for (int hour = Math.max(from, 0); hour <= Math.min(to, HOURS_PER_DAY - 1); hour++) {
+                    mask |= 1 << hour;
+                }
+            } catch (NumberFormatException e) {
+                // 忽略无法解析的时间段
+            }
+        }
+        // 全部无法解析时按全天投放
+        return mask != 0 ? mask : ALL_HOURS;
+    }
+}
@@ -0,0 +1,80 @@
+package top.opendsp.ads.engine.inventory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.javagossip.opendsp.model.AdSlot;
+import top.opendsp.ads.engine.util.LongObjectHashMap;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
+
+/**
+ * 广告位查找索引
+ * Banner和视频广告位按(广告类型, 宽, 高)索引，原生请求匹配全部原生广告位，预先汇总为列表；每次曝光的广告位解析为O(1)
+ *
+ * @author weiping wang
+ */
+public final class SlotIndex {
+
+    static final int AD_TYPE_BANNER = 1;
+    static final int AD_TYPE_VIDEO = 2;
+    static final int AD_TYPE_NATIVE = 3;
+
+    private static final int SIZE_BITS = 24;
+    private static final long SIZE_MASK = (1L << SIZE_BITS) - 1;
+
+    private final LongObjectHashMap<List<AdSlot>> slotsBySize;
+    private final List<AdSlot> nativeSlots;
+
+    private SlotIndex(LongObjectHashMap<List<AdSlot>> slotsBySize, List<AdSlot> nativeSlots) {
+        this.slotsBySize = slotsBySize;
+        this.nativeSlots = nativeSlots;
+    }
+
+    static SlotIndex build(List<AdSlot> slots) {
+        LongObjectHashMap<List<AdSlot>> slotsBySize = new LongObjectHashMap<>(slots.size());
+        List<AdSlot> nativeSlots = new ArrayList<>();
+        for (AdSlot slot : slots) {
+            Integer adType = slot.getAdType();
+            if (adType == null) {
+                continue;
+            }
+            if (adType == AD_TYPE_BANNER || adType == AD_TYPE_VIDEO) {
+                if (slot.getWidth() != null && slot.getHeight() != null) {
+                    slotsBySize.computeIfAbsent(sizeKey(adType, slot.getWidth(), slot.getHeight()), ArrayList::new)
+                            .add(slot);
+                }
+            } else if (adType == AD_TYPE_NATIVE) {
+                nativeSlots.add(slot);
+            }
+        }
+        slotsBySize.replaceAll((key, list) -> Collections.unmodifiableList(list));
+
+        return new SlotIndex(slotsBySize, Collections.unmodifiableList(nativeSlots));
+    }
+
+    /**
+     * 查找与曝光请求匹配的广告位
+     */
+    public List<AdSlot> match(Imp imp) {
+        List<AdSlot> matched = null;
+        if (imp.hasBanner()) {
+            Imp.Banner banner = imp.getBanner();
+            if (banner.hasW() && banner.hasH()) {
+                matched = slotsBySize.get(sizeKey(AD_TYPE_BANNER, banner.getW(), banner.getH()));
+            }
+        } else if (imp.hasVideo()) {
+            Imp.Video video = imp.getVideo();
+            if (video.hasW() && video.hasH()) {
+                matched = slotsBySize.get(sizeKey(AD_TYPE_VIDEO, video.getW(), video.getH()));
+            }
+        } else if (imp.hasNative()) {
+            matched = nativeSlots;
+        }
+        return matched != null ? matched : Collections.emptyList();
+    }
+
+    private static long sizeKey(int adType, int width, int height) {
+        return ((long) adType << (SIZE_BITS * 2)) | ((width & SIZE_MASK) << SIZE_BITS) | (height & SIZE_MASK);
+    }
+}
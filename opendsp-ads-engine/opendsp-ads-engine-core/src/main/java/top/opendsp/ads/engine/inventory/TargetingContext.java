@@ -0,0 +1,126 @@
+package top.opendsp.ads.engine.inventory;
+
+import top.opendsp.proto.enums.OpenDspEnums.ConnectionType;
+import top.opendsp.proto.enums.OpenDspEnums.DeviceType;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Device;
+
+/**
+ * 请求定向上下文
+ * 将竞价请求中的定向相关字段转换为整型编码和枚举，可按线程复用，加载过程不创建临时对象；
+ * 操作系统与设备品牌等字符串维度一样通过定向字典编码，未被任何广告组定向的取值只能匹配不限定向的广告组
+ *
+ * @author weiping wang
+ */
+public final class TargetingContext {
+
+    /**
+     * 请求中缺失该维度，只能匹配不限定向的广告组
+     */
+    public static final int NONE = -1;
+
+    private int regionCode;
+    private int osCode;
+    private DeviceType deviceType;
+    private ConnectionType connectionType;
+    private int deviceMakeCode;
+    private int deviceModelCode;
+    private int carrierCode;
+
+    /**
+     * 加载竞价请求的定向取值，覆盖上一次加载的内容
+     */
+    public TargetingContext load(BidRequest request, TargetingDictionary dictionary) {
+        regionCode = NONE;
+        osCode = NONE;
+        deviceType = DeviceType.UNKNOWN_DEVICE_TYPE;
+        connectionType = ConnectionType.UNKNOWN_CONNECTION_TYPE;
+        deviceMakeCode = NONE;
+        deviceModelCode = NONE;
+        carrierCode = NONE;
+
+        if (!request.hasDevice()) {
+            return this;
+        }
+
+        Device device = request.getDevice();
+        if (device.hasGeo() && device.getGeo().hasRegionCode()) {
+            regionCode = device.getGeo().getRegionCode();
+        }
+        if (device.hasOs()) {
+            osCode = dictionary.lookup(osName(device.getOs()));
+        }
+        if (device.hasDevicetype() && device.getDevicetype() != DeviceType.UNRECOGNIZED) {
+            deviceType = device.getDevicetype();
+        }
+        if (device.hasConnectiontype() && device.getConnectiontype() != ConnectionType.UNRECOGNIZED) {
+            connectionType = device.getConnectiontype();
+        }
+        deviceMakeCode = dictionary.lookup(device.getMake());
+        deviceModelCode = dictionary.lookup(device.getModel());
+        carrierCode = dictionary.lookup(device.getCarrier());
+        return this;
+    }
+
+    /**
+     * 获取请求在指定维度上的编码，枚举维度使用枚举值编号
+     */
+    public int code(TargetingDimension dimension) {
+        switch (dimension) {
+            case REGION:
+                return regionCode;
+            case OS:
+                return osCode;
+            case DEVICE_TYPE:
+                return deviceType.getNumber();
+            case DEVICE_MAKE:
+                return deviceMakeCode;
+            case DEVICE_MODEL:
+                return deviceModelCode;
+            case CARRIER:
+                return carrierCode;
+            case CONNECTION_TYPE:
+                return connectionType.getNumber();
+            default:
+                return NONE;
+        }
+    }
+
+    public int getRegionCode() {
+        return regionCode;
+    }
+
+    public int getOsCode() {
+        return osCode;
+    }
+
+    public DeviceType getDeviceType() {
+        return deviceType;
+    }
+
+    public ConnectionType getConnectionType() {
+        return connectionType;
+    }
+
+    public int getDeviceMakeCode() {
+        return deviceMakeCode;
+    }
+
+    public int getDeviceModelCode() {
+        return deviceModelCode;
+    }
+
+    public int getCarrierCode() {
+        return carrierCode;
+    }
+
+    /**
+     * 归一化操作系统名称，别名转换为统一写法，其余取值原样返回（字典查找忽略大小写）
+     */
+    static String osName(String value) {
+        if ("harmony".equalsIgnoreCase(value)) {
+            return "harmonyos";
+        }
+        return value;
+    }
+}
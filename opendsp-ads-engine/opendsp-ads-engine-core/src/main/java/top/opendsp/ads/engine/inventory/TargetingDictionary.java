@@ -0,0 +1,96 @@
+package top.opendsp.ads.engine.inventory;
+
+/**
+ * 定向字符串字典
+ * 将操作系统、设备品牌、型号、运营商等定向取值驻留为整型编码，编码在多个库存快照之间保持不变；
+ * 查找时忽略大小写且不产生临时对象，只在库存刷新线程中写入
+ *
+ * @author weiping wang
+ */
+public final class TargetingDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private volatile Entry[] entries = new Entry[256];
+    private int size;
+
+    /**
+     * 驻留定向取值并返回编码，已存在时返回原编码
+     */
+    public synchronized int intern(String value) {
+        int code = lookup(value);
+        if (code != NOT_FOUND) {
+            return code;
+        }
+        Entry[] table = entries;
+        if ((size + 1) * 2 > table.length) {
+            table = resize(table);
+        }
+        code = size++;
+        insert(table, new Entry(value.toLowerCase(), code));
+        entries = table;
+        return code;
+    }
+
+    /**
+     * 查找取值的编码（忽略大小写），不存在时返回{@link #NOT_FOUND}
+     */
+    public int lookup(String value) {
+        if (value == null || value.isEmpty()) {
+            return NOT_FOUND;
+        }
+        Entry[] table = entries;
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        Entry entry;
+        while ((entry = table[index]) != null) {
+            if (entry.key.equalsIgnoreCase(value)) {
+                return entry.code;
+            }
+            index = (index + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static Entry[] resize(Entry[] table) {
+        Entry[] resized = new Entry[table.length << 1];
+        for (Entry entry : table) {
+            if (entry != null) {
+                insert(resized, entry);
+            }
+        }
+        return resized;
+    }
+
+    private static void insert(Entry[] table, Entry entry) {
+        int mask = table.length - 1;
+        int index = hash(entry.key) & mask;
+        while (table[index] != null) {
+            index = (index + 1) & mask;
+        }
+        table[index] = entry;
+    }
+
+    private static int hash(String value) {
+        int h = 0;
+        for (int i = 0; i < value.length(); i++) {
+            h = 31 * h + Character.toLowerCase(value.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final int code;
+
+        private Entry(String key, int code) {
+            this.key = key;
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package top.opendsp.ads.engine.inventory;
+
+/**
+ * 定向维度
+ *
+ * @author weiping wang
+ */
+public enum TargetingDimension {
+
+    REGION,
+    OS,
+    DEVICE_TYPE,
+    DEVICE_MAKE,
+    DEVICE_MODEL,
+    CARRIER,
+    CONNECTION_TYPE
+}
@@ -0,0 +1,92 @@
+package top.opendsp.ads.engine.inventory;
+
+import java.util.Collection;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import top.opendsp.ads.engine.util.LongObjectHashMap;
+
+/**
+ * 定向倒排索引
+ * 每个定向维度的每个取值编码对应一个广告组位图，另有一个"不限"位图记录该维度未设置定向的广告组，
+ * 请求的定向计算转化为各维度位图的并集和交集，与在投广告组数量无关
+ *
+ * @author weiping wang
+ */
+public final class TargetingIndex {
+
+    private static final TargetingDimension[] DIMENSIONS = TargetingDimension.values();
+
+    private final DimensionIndex[] dimensions;
+
+    private TargetingIndex(DimensionIndex[] dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    static TargetingIndex build(Collection<AdGroupRecord> records) {
+        DimensionIndex[] dimensions = new DimensionIndex[DIMENSIONS.length];
+        for (TargetingDimension dimension : DIMENSIONS) {
+            dimensions[dimension.ordinal()] = new DimensionIndex();
+        }
+        for (AdGroupRecord record : records) {
+            for (TargetingDimension dimension : DIMENSIONS) {
+                dimensions[dimension.ordinal()].add(record.getId(), record.getTargetingRule().codes(dimension));
+            }
+        }
+        for (DimensionIndex dimension : dimensions) {
+            dimension.optimize();
+        }
+        return new TargetingIndex(dimensions);
+    }
+
+    /**
+     * 计算满足所有维度定向的广告组
+     */
+    public RoaringBitmap match(TargetingContext context) {
+        RoaringBitmap result = null;
+        for (TargetingDimension dimension : DIMENSIONS) {
+            RoaringBitmap eligible = dimensions[dimension.ordinal()].eligible(context.code(dimension));
+            if (result == null) {
+                result = eligible.clone();
+            } else {
+                result.and(eligible);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 单个维度的索引
+     */
+    private static final class DimensionIndex {
+
+        private final RoaringBitmap untargeted = new RoaringBitmap();
+        private final LongObjectHashMap<RoaringBitmap> postings = new LongObjectHashMap<>();
+
+        void add(int adGroupId, int[] codes) {
+            if (codes == null) {
+                untargeted.add(adGroupId);
+                return;
+            }
+            for (int code : codes) {
+                postings.computeIfAbsent(code, RoaringBitmap::new).add(adGroupId);
+            }
+        }
+
+        void optimize() {
+            untargeted.runOptimize();
+            postings.forEach((code, posting) -> posting.runOptimize());
+        }
+
+        /**
+         * 该维度上可投放的广告组：不限定向的广告组，加上定向了请求取值的广告组
+         */
+        RoaringBitmap eligible(int requestCode) {
+            RoaringBitmap posting = requestCode != TargetingContext.NONE ? postings.get(requestCode) : null;
+            return posting != null ? RoaringBitmap.or(untargeted, posting) : untargeted;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package top.opendsp.ads.engine.inventory;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.protobuf.ProtocolMessageEnum;
+
+import io.github.javagossip.opendsp.model.AdGroup;
+import top.opendsp.proto.enums.OpenDspEnums.ConnectionType;
+import top.opendsp.proto.enums.OpenDspEnums.DeviceType;
+import top.opendsp.proto.enums.OpenDspEnums.OsType;
+
+/**
+ * 预编译的广告组定向规则
+ * 广告组加载时将逗号分隔的定向配置编译为有序整型数组和枚举集合，竞价时的匹配不创建任何对象；
+ * 字段为null表示该维度不限
+ *
+ * @author weiping wang
+ */
+public final class TargetingRule {
+
+    private final int[] regionCodes;
+    private final int[] osCodes;
+    private final EnumSet<DeviceType> deviceTypes;
+    private final EnumSet<ConnectionType> connectionTypes;
+    private final int[] deviceMakeCodes;
+    private final int[] deviceModelCodes;
+    private final int[] carrierCodes;
+
+    private TargetingRule(int[] regionCodes, int[] osCodes, EnumSet<DeviceType> deviceTypes,
+            EnumSet<ConnectionType> connectionTypes, int[] deviceMakeCodes, int[] deviceModelCodes,
+            int[] carrierCodes) {
+        this.regionCodes = regionCodes;
+        this.osCodes = osCodes;
+        this.deviceTypes = deviceTypes;
+        this.connectionTypes = connectionTypes;
+        this.deviceMakeCodes = deviceMakeCodes;
+        this.deviceModelCodes = deviceModelCodes;
+        this.carrierCodes = carrierCodes;
+    }
+
+    /**
+     * 编译广告组的定向配置
+     */
+    static TargetingRule compile(AdGroup adGroup, TargetingDictionary dictionary) {
+        return new TargetingRule(
+            compileRegions(adGroup.getTargetRegion()),
+            compileOsCodes(adGroup.getTargetOs(), dictionary),
+            compileDeviceTypes(adGroup.getTargetDeviceType()),
+            compileConnectionTypes(adGroup.getTargetConnectionType()),
+            compileCodes(adGroup.getTargetDeviceMake(), dictionary),
+            compileCodes(adGroup.getTargetDeviceModel(), dictionary),
+            compileCodes(adGroup.getTargetCarrier(), dictionary)
+        );
+    }
+
+    /**
+     * 判断请求是否满足全部定向维度
+     */
+    public boolean matches(TargetingContext context) {
+        return contains(regionCodes, context.getRegionCode())
+            && contains(osCodes, context.getOsCode())
+            && (deviceTypes == null || deviceTypes.contains(context.getDeviceType()))
+            && contains(deviceMakeCodes, context.getDeviceMakeCode())
+            && contains(deviceModelCodes, context.getDeviceModelCode())
+            && contains(carrierCodes, context.getCarrierCode())
+            && (connectionTypes == null || connectionTypes.contains(context.getConnectionType()));
+    }
+
+    /**
+     * 是否设置了指定维度的定向
+     */
+    public boolean isTargeted(TargetingDimension dimension) {
+        return codes(dimension) != null;
+    }
+
+    /**
+     * 获取指定维度的定向编码，枚举维度使用枚举值编号，不限时返回null；用于构建倒排索引
+     */
+    int[] codes(TargetingDimension dimension) {
+        switch (dimension) {
+            case REGION:
+                return regionCodes;
+            case OS:
+                return osCodes;
+            case DEVICE_TYPE:
+                return enumCodes(deviceTypes);
+            case DEVICE_MAKE:
+                return deviceMakeCodes;
+            case DEVICE_MODEL:
+                return deviceModelCodes;
+            case CARRIER:
+                return carrierCodes;
+            case CONNECTION_TYPE:
+                return enumCodes(connectionTypes);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean contains(int[] codes, int code) {
+        return codes == null || (code != TargetingContext.NONE && Arrays.binarySearch(codes, code) >= 0);
+    }
+
+    private static int[] enumCodes(Set<? extends ProtocolMessageEnum> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream().mapToInt(ProtocolMessageEnum::getNumber).sorted().toArray();
+    }
+
+    private static String[] split(String targetString) {
+        if (targetString == null) {
+            return null;
+        }
+        String[] values = Arrays.stream(targetString.split(","))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .toArray(String[]::new);
+        return values.length > 0 ? values : null;
+    }
+
+    private static int[] compileRegions(String targetRegion) {
+        String[] values = split(targetRegion);
+        if (values == null) {
+            return null;
+        }
+        return Arrays.stream(values)
+            .filter(TargetingRule::isNumber)
+            .mapToInt(Integer::parseInt)
+            .sorted()
+            .distinct()
+            .toArray();
+    }
+
+    private static int[] compileCodes(String targetString, TargetingDictionary dictionary) {
+        String[] values = split(targetString);
+        if (values == null) {
+            return null;
+        }
+        return Arrays.stream(values)
+            .mapToInt(dictionary::intern)
+            .sorted()
+            .distinct()
+            .toArray();
+    }
+
+    /**
+     * 操作系统定向取值可以是枚举编号或名称，统一转换为名称后驻留到字典；未定义的编号直接丢弃，
+     * 其余无法识别的名称按原值驻留，只与上报相同名称的请求匹配
+     */
+    private static int[] compileOsCodes(String targetOs, TargetingDictionary dictionary) {
+        String[] values = split(targetOs);
+        if (values == null) {
+            return null;
+        }
+        return Arrays.stream(values)
+            .map(TargetingRule::osName)
+            .filter(Objects::nonNull)
+            .mapToInt(dictionary::intern)
+            .sorted()
+            .distinct()
+            .toArray();
+    }
+
+    private static String osName(String value) {
+        if (!isNumber(value)) {
+            return TargetingContext.osName(value);
+        }
+        OsType osType = OsType.forNumber(Integer.parseInt(value));
+        return osType != null ? osType.name().toLowerCase() : null;
+    }
+
+    private static EnumSet<DeviceType> compileDeviceTypes(String targetDeviceType) {
+        String[] values = split(targetDeviceType);
+        if (values == null) {
+            return null;
+        }
+        EnumSet<DeviceType> deviceTypes = EnumSet.noneOf(DeviceType.class);
+        for (String value : values) {
+            if (isNumber(value)) {
+                DeviceType deviceType = DeviceType.forNumber(Integer.parseInt(value));
+                // 未定义的编号（如5-其他）归为未知设备
+                deviceTypes.add(deviceType != null ? deviceType : DeviceType.UNKNOWN_DEVICE_TYPE);
+            } else {
+                for (DeviceType deviceType : DeviceType.values()) {
+                    if (deviceType != DeviceType.UNRECOGNIZED && deviceType.name().equalsIgnoreCase(value)) {
+                        deviceTypes.add(deviceType);
+                    }
+                }
+            }
+        }
+        return deviceTypes;
+    }
+
+    private static EnumSet<ConnectionType> compileConnectionTypes(String targetConnectionType) {
+        String[] values = split(targetConnectionType);
+        if (values == null) {
+            return null;
+        }
+        EnumSet<ConnectionType> connectionTypes = EnumSet.noneOf(ConnectionType.class);
+        for (String value : values) {
+            ConnectionType connectionType = parseConnectionType(value);
+            if (connectionType != null) {
+                connectionTypes.add(connectionType);
+            }
+        }
+        return connectionTypes;
+    }
+
+    private static ConnectionType parseConnectionType(String value) {
+        if (isNumber(value)) {
+            return ConnectionType.forNumber(Integer.parseInt(value));
+        }
+        switch (value.toLowerCase()) {
+            case "ethernet":
+                return ConnectionType.ETHERNET;
+            case "wifi":
+                return ConnectionType.WIFI;
+            case "2g":
+                return ConnectionType.CELL_2G;
+            case "3g":
+                return ConnectionType.CELL_3G;
+            case "4g":
+                return ConnectionType.CELL_4G;
+            case "5g":
+                return ConnectionType.CELL_5G;
+            case "unknown":
+                return ConnectionType.UNKNOWN_CONNECTION_TYPE;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isNumber(String value) {
+        return value.length() <= 9 && value.chars().allMatch(Character::isDigit);
+    }
+}
@@ -0,0 +1,29 @@
+package top.opendsp.ads.engine.log;
+
+import java.util.List;
+
+/**
+ * 批量写入器的输出
+ * 只由{@link BatchWriter}的写入线程调用，一次写入一批记录
+ *
+ * @author weiping wang
+ */
+public interface BatchSink<T> {
+
+    /**
+     * 写入一批记录，抛出异常时该批记录计为写入失败
+     */
+    void write(List<T> records) throws Exception;
+
+    /**
+     * 写入线程在刷新间隔内没有收到记录时调用，用于按时间滚动输出文件
+     */
+    default void idle() throws Exception {
+    }
+
+    /**
+     * 写入线程停止前调用，用于刷新缓冲和释放资源
+     */
+    default void close() throws Exception {
+    }
+}
@@ -0,0 +1,178 @@
+package top.opendsp.ads.engine.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+
+/**
+ * 批量写入器
+ * 调用线程只把记录放入有界队列，由独立的写入线程攒批后写入{@link BatchSink}；
+ * 攒够一批或最早的记录等待超过刷新间隔时写入，队列满时放入失败并计为丢弃，调用线程不会等待输出
+ *
+ * 停止时不中断写入线程（中断会关闭文件输出的通道），写入线程在poll超时后检查停止标志并写完队列中的记录
+ *
+ * @author weiping wang
+ */
+public final class BatchWriter<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchWriter.class);
+
+    /**
+     * 停止时等待队列写完的最长时间，单位: 毫秒
+     */
+    private static final long SHUTDOWN_TIMEOUT = 10000;
+
+    private final String name;
+    private final BatchSink<T> sink;
+    private final ArrayBlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Thread writerThread;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+
+    /**
+     * @param name 写入器名称，用于线程名和指标前缀，如bid-log
+     * @param flushInterval 记录在队列中等待的最长时间，单位: 毫秒
+     */
+    public BatchWriter(String name, BatchSink<T> sink, int queueCapacity, int batchSize, long flushInterval,
+            EngineMetrics engineMetrics) {
+        this.name = name;
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        this.writerThread = new ThreadFactoryBuilder().setNameFormat("opendsp-" + name + "-writer").setDaemon(true)
+            .build()
+            .newThread(this::run);
+
+        engineMetrics.registerGauge(name + ".queue-depth", () -> queue.size());
+        engineMetrics.registerGauge(name + ".written", written::sum);
+        engineMetrics.registerGauge(name + ".dropped", dropped::sum);
+        engineMetrics.registerGauge(name + ".write-failed", failed::sum);
+    }
+
+    public void start() {
+        running = true;
+        writerThread.start();
+    }
+
+    /**
+     * 提交一条记录，队列满时丢弃并返回false
+     */
+    public boolean offer(T record) {
+        if (queue.offer(record)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 提交一条记录，队列满时最多等待timeout，超时后丢弃并返回false
+     */
+    public boolean offer(T record, long timeout, TimeUnit unit) {
+        try {
+            if (queue.offer(record, timeout, unit)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 队列中等待写入的记录数
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 停止写入线程，等待队列中的记录写完
+     */
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            LOGGER.warn("写入线程停止时仍有未写入的记录, writer: {}, 数量: {}", name, queue.size());
+        }
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        long batchStart = 0;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitNanos = batch.isEmpty() ? flushIntervalNanos
+                    : batchStart + flushIntervalNanos - System.nanoTime();
+                T record = waitNanos > 0 ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                if (record != null) {
+                    if (batch.isEmpty()) {
+                        batchStart = System.nanoTime();
+                    }
+                    batch.add(record);
+                    queue.drainTo(batch, batchSize - batch.size());
+                } else if (batch.isEmpty()) {
+                    idle();
+                }
+                if (batch.size() >= batchSize
+                        || (!batch.isEmpty() && System.nanoTime() - batchStart >= flushIntervalNanos)) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                // 停止时不中断写入线程，其他来源的中断忽略
+            }
+        }
+        flush(batch);
+
+        try {
+            sink.close();
+        } catch (Exception e) {
+            LOGGER.error("关闭输出异常, writer: {}", name, e);
+        }
+    }
+
+    private void idle() {
+        try {
+            sink.idle();
+        } catch (Exception e) {
+            LOGGER.error("输出空闲处理异常, writer: {}", name, e);
+        }
+    }
+
+    private void flush(List<T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.write(batch);
+            written.add(batch.size());
+            LOGGER.debug("批量写入完成, writer: {}, 数量: {}", name, batch.size());
+        } catch (Exception e) {
+            failed.add(batch.size());
+            LOGGER.error("批量写入异常, writer: {}, 数量: {}", name, batch.size(), e);
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,56 @@
+package top.opendsp.ads.engine.log;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.github.javagossip.opendsp.dao.BidEventDao;
+import io.github.javagossip.opendsp.model.BidEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+
+/**
+ * 竞价结果事件写入器
+ * 胜出和竞价失败通知作为只追加的事件由{@link BatchWriter}攒批写入bid_event表，不再按requestId更新bid_log；
+ * 队列容量、批大小和刷新间隔沿用竞价日志的配置，队列满时丢弃事件
+ *
+ * @author weiping wang
+ */
+@Component
+public class BidEventWriter {
+
+    @Autowired
+    private AdsEngineProperties properties;
+
+    @Autowired
+    private BidEventDao bidEventDao;
+
+    @Autowired
+    private EngineMetrics engineMetrics;
+
+    private BatchWriter<BidEvent> writer;
+
+    @PostConstruct
+    public void start() {
+        AdsEngineProperties.BidLog config = properties.getBidLog();
+        writer = new BatchWriter<>("bid-event", events -> bidEventDao.getMapper().insertBatch(events),
+            config.getQueueCapacity(), config.getBatchSize(), config.getFlushInterval(), engineMetrics);
+        writer.start();
+    }
+
+    /**
+     * 提交一条竞价结果事件，队列满时丢弃
+     */
+    public void append(BidEvent event) {
+        writer.offer(event);
+    }
+
+    /**
+     * 停止写入线程，等待队列中的事件写完
+     */
+    @PreDestroy
+    public void stop() {
+        writer.stop();
+    }
+}
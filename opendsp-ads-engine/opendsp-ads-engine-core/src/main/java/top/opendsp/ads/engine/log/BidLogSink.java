@@ -0,0 +1,11 @@
+package top.opendsp.ads.engine.log;
+
+import io.github.javagossip.opendsp.model.BidLog;
+
+/**
+ * 竞价日志输出，由配置opendsp.engine.bid-log.sink选择实现
+ *
+ * @author weiping wang
+ */
+public interface BidLogSink extends BatchSink<BidLog> {
+}
@@ -0,0 +1,79 @@
+package top.opendsp.ads.engine.log;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.github.javagossip.opendsp.model.BidLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+
+/**
+ * 竞价日志写入器
+ * 竞价线程只把日志放入{@link BatchWriter}的有界队列，由写入线程攒批后写入{@link BidLogSink}；
+ * 队列满时按溢出策略处理，竞价线程不会等待数据库
+ *
+ * @author weiping wang
+ */
+@Component
+public class BidLogWriter {
+
+    @Autowired
+    private AdsEngineProperties properties;
+
+    @Autowired
+    private BidLogSink sink;
+
+    @Autowired
+    private EngineMetrics engineMetrics;
+
+    private final LongAdder sampledOut = new LongAdder();
+
+    private BatchWriter<BidLog> writer;
+
+    @PostConstruct
+    public void start() {
+        AdsEngineProperties.BidLog config = properties.getBidLog();
+        writer = new BatchWriter<>("bid-log", sink, config.getQueueCapacity(), config.getBatchSize(),
+            config.getFlushInterval(), engineMetrics);
+        writer.start();
+
+        engineMetrics.registerGauge("bid-log.sampled-out", sampledOut::sum);
+    }
+
+    /**
+     * 提交一条竞价日志，按溢出策略处理队列满的情况
+     */
+    public void append(BidLog record) {
+        AdsEngineProperties.BidLog config = properties.getBidLog();
+        switch (config.getOverflowPolicy()) {
+            case SAMPLE:
+                if (writer.size() >= config.getQueueCapacity() * config.getSampleWatermark()
+                        && ThreadLocalRandom.current().nextInt(config.getSampleRate()) != 0) {
+                    sampledOut.increment();
+                    return;
+                }
+                writer.offer(record);
+                break;
+            case BLOCK:
+                writer.offer(record, config.getBlockTimeout(), TimeUnit.MILLISECONDS);
+                break;
+            default:
+                writer.offer(record);
+                break;
+        }
+    }
+
+    /**
+     * 停止写入线程，等待队列中的日志写完
+     */
+    @PreDestroy
+    public void stop() {
+        writer.stop();
+    }
+}
@@ -0,0 +1,28 @@
+package top.opendsp.ads.engine.log;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.github.javagossip.opendsp.dao.BidLogDao;
+import io.github.javagossip.opendsp.model.BidLog;
+
+/**
+ * 写入bid_log表的竞价日志输出，每批日志使用一条多行INSERT语句
+ *
+ * @author weiping wang
+ */
+@Component
+@ConditionalOnProperty(prefix = "opendsp.engine.bid-log", name = "sink", havingValue = "database", matchIfMissing = true)
+public class DatabaseBidLogSink implements BidLogSink {
+
+    @Autowired
+    private BidLogDao bidLogDao;
+
+    @Override
+    public void write(List<BidLog> records) {
+        bidLogDao.getMapper().insertBatch(records);
+    }
+}
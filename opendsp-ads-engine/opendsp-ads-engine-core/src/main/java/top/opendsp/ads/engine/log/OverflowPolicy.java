@@ -0,0 +1,24 @@
+package top.opendsp.ads.engine.log;
+
+/**
+ * 竞价日志队列的溢出策略
+ *
+ * @author weiping wang
+ */
+public enum OverflowPolicy {
+
+    /**
+     * 队列已满时丢弃新日志
+     */
+    DROP,
+
+    /**
+     * 队列超过采样水位后按采样比例保留新日志，队列已满时丢弃
+     */
+    SAMPLE,
+
+    /**
+     * 队列已满时竞价线程最多等待blockTimeout，超时后丢弃
+     */
+    BLOCK
+}
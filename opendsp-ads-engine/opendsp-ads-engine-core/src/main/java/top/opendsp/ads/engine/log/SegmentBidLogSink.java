@@ -0,0 +1,104 @@
+package top.opendsp.ads.engine.log;
+
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.github.javagossip.opendsp.commons.bidlog.BidLogSegmentWriter;
+import io.github.javagossip.opendsp.model.BidLog;
+import jakarta.annotation.PostConstruct;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.proto.log.OpenDspBidLog.BidLogRecord;
+
+/**
+ * 写入本地日志段文件的竞价日志输出
+ * 竞价日志只做顺序磁盘写入，关闭的日志段由定时任务批量导入bid_log表
+ *
+ * @author weiping wang
+ */
+@Component
+@ConditionalOnProperty(prefix = "opendsp.engine.bid-log", name = "sink", havingValue = "segment")
+public class SegmentBidLogSink implements BidLogSink {
+
+    @Autowired
+    private AdsEngineProperties properties;
+
+    private BidLogSegmentWriter writer;
+
+    @PostConstruct
+    public void init() throws Exception {
+        AdsEngineProperties.BidLog config = properties.getBidLog();
+        writer = new BidLogSegmentWriter(Paths.get(config.getSegmentDir()), config.getSegmentSize(),
+            config.getSegmentMaxAge(), config.isSegmentIndexEnabled());
+        writer.recover();
+    }
+
+    @Override
+    public void write(List<BidLog> records) throws Exception {
+        for (BidLog bidLog : records) {
+            writer.append(toRecord(bidLog));
+        }
+        writer.rotateIfExpired();
+    }
+
+    @Override
+    public void idle() throws Exception {
+        writer.rotateIfExpired();
+    }
+
+    @Override
+    public void close() throws Exception {
+        writer.close();
+    }
+
+    static BidLogRecord toRecord(BidLog bidLog) {
+        BidLogRecord.Builder builder = BidLogRecord.newBuilder();
+        if (bidLog.getRequestId() != null) {
+            builder.setRequestId(bidLog.getRequestId());
+        }
+        if (bidLog.getAdvertiserId() != null) {
+            builder.setAdvertiserId(bidLog.getAdvertiserId());
+        }
+        if (bidLog.getCampaignId() != null) {
+            builder.setCampaignId(bidLog.getCampaignId());
+        }
+        if (bidLog.getAdGroupId() != null) {
+            builder.setAdGroupId(bidLog.getAdGroupId());
+        }
+        if (bidLog.getCreativeId() != null) {
+            builder.setCreativeId(bidLog.getCreativeId());
+        }
+        if (bidLog.getAdSlotId() != null) {
+            builder.setAdSlotId(bidLog.getAdSlotId());
+        }
+        if (bidLog.getAdxId() != null) {
+            builder.setAdxId(bidLog.getAdxId());
+        }
+        if (bidLog.getAdxSlotId() != null) {
+            builder.setAdxSlotId(bidLog.getAdxSlotId());
+        }
+        if (bidLog.getBidPrice() != null) {
+            builder.setBidPrice(bidLog.getBidPrice());
+        }
+        if (bidLog.getWinPrice() != null) {
+            builder.setWinPrice(bidLog.getWinPrice());
+        }
+        if (bidLog.getIsWin() != null) {
+            builder.setIsWin(bidLog.getIsWin() == 1);
+        }
+        if (bidLog.getUserId() != null) {
+            builder.setUserId(bidLog.getUserId());
+        }
+        if (bidLog.getDeviceId() != null) {
+            builder.setDeviceId(bidLog.getDeviceId());
+        }
+        if (bidLog.getCreateTime() != null) {
+            builder.setCreateTime(bidLog.getCreateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,24 @@
+package top.opendsp.ads.engine.metrics;
+
+/**
+ * 竞价降级类型
+ *
+ * @author weiping wang
+ */
+public enum Degradation {
+
+    /**
+     * 频次预取被拒绝或未在频次控制阶段截止时间前完成，候选跳过频次检查
+     */
+    FREQUENCY_SKIPPED,
+
+    /**
+     * 预算检查阶段超时，剩余候选只使用已领取的预算租约，不再同步领取额度和查询余额
+     */
+    CACHED_SPEND,
+
+    /**
+     * 请求截止时间已到，广告位放弃竞价
+     */
+    IMP_EXPIRED
+}
@@ -0,0 +1,100 @@
+package top.opendsp.ads.engine.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 竞价引擎指标
+ * 记录各流水线阶段的耗时、超出时间预算的次数以及各类降级的触发次数，计数器均为累计值；
+ * 其他组件可以注册瞬时指标（如缓存命中率、队列长度），输出时读取当前值
+ *
+ * @author weiping wang
+ */
+@Component
+public class EngineMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EngineMetrics.class);
+
+    private static final PipelineStage[] STAGES = PipelineStage.values();
+    private static final Degradation[] DEGRADATIONS = Degradation.values();
+
+    private final LongAdder[] stageNanos = newAdders(STAGES.length);
+    private final LongAdder[] stageCounts = newAdders(STAGES.length);
+    private final LongAdder[] stageOverruns = newAdders(STAGES.length);
+    private final LongAdder[] degradations = newAdders(DEGRADATIONS.length);
+    private final Map<String, LongSupplier> gauges = new ConcurrentSkipListMap<>();
+
+    /**
+     * 记录阶段耗时
+     *
+     * @param overrun 是否超出了阶段时间预算
+     */
+    public void recordStage(PipelineStage stage, long elapsedNanos, boolean overrun) {
+        stageNanos[stage.ordinal()].add(elapsedNanos);
+        stageCounts[stage.ordinal()].increment();
+        if (overrun) {
+            stageOverruns[stage.ordinal()].increment();
+        }
+    }
+
+    /**
+     * 记录一次降级
+     */
+    public void degrade(Degradation degradation) {
+        degradations[degradation.ordinal()].increment();
+    }
+
+    /**
+     * 注册瞬时指标，同名指标会被覆盖
+     */
+    public void registerGauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    public long getStageOverrunCount(PipelineStage stage) {
+        return stageOverruns[stage.ordinal()].sum();
+    }
+
+    public long getDegradationCount(Degradation degradation) {
+        return degradations[degradation.ordinal()].sum();
+    }
+
+    /**
+     * 定时输出指标
+     */
+    @Scheduled(fixedDelayString = "${opendsp.engine.metrics.report-interval:60000}",
+            initialDelayString = "${opendsp.engine.metrics.report-interval:60000}")
+    public void report() {
+        for (PipelineStage stage : STAGES) {
+            long count = stageCounts[stage.ordinal()].sum();
+            if (count > 0) {
+                LOGGER.info("竞价阶段指标, stage: {}, 次数: {}, 平均耗时: {}us, 超时次数: {}", stage, count,
+                    TimeUnit.NANOSECONDS.toMicros(stageNanos[stage.ordinal()].sum() / count),
+                    stageOverruns[stage.ordinal()].sum());
+            }
+        }
+        for (Degradation degradation : DEGRADATIONS) {
+            long count = degradations[degradation.ordinal()].sum();
+            if (count > 0) {
+                LOGGER.info("竞价降级指标, degradation: {}, 次数: {}", degradation, count);
+            }
+        }
+        gauges.forEach((name, supplier) -> LOGGER.info("引擎指标, {}: {}", name, supplier.getAsLong()));
+    }
+
+    private static LongAdder[] newAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
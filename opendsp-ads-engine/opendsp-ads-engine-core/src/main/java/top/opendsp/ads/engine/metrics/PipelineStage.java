@@ -0,0 +1,16 @@
+package top.opendsp.ads.engine.metrics;
+
+/**
+ * 竞价流水线阶段
+ *
+ * @author weiping wang
+ */
+public enum PipelineStage {
+
+    MATCH,
+    TARGETING,
+    BUDGET,
+    FREQUENCY,
+    PRICING,
+    BUILD
+}
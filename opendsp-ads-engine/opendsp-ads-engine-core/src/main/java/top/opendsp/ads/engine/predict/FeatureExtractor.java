@@ -0,0 +1,124 @@
+package top.opendsp.ads.engine.predict;
+
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Device;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
+
+/**
+ * 预估特征抽取
+ * 每个广告位先抽取一次请求特征，之后每个候选回退到请求特征末尾再追加广告特征和交叉特征；
+ * 对象按线程复用，抽取过程不创建临时对象
+ *
+ * @author weiping wang
+ */
+public final class FeatureExtractor {
+
+    // 请求特征槽位
+    public static final int SLOT_OS = 1;
+    public static final int SLOT_DEVICE_TYPE = 2;
+    public static final int SLOT_CONNECTION_TYPE = 3;
+    public static final int SLOT_REGION = 4;
+    public static final int SLOT_DEVICE_MAKE = 5;
+    public static final int SLOT_DEVICE_MODEL = 6;
+    public static final int SLOT_CARRIER = 7;
+    public static final int SLOT_HOUR = 8;
+    public static final int SLOT_IMP_TYPE = 9;
+    public static final int SLOT_TAG_ID = 10;
+    public static final int SLOT_APP = 11;
+    public static final int SLOT_SITE = 12;
+    public static final int SLOT_AD_SIZE = 13;
+
+    // 广告特征槽位
+    public static final int SLOT_ADVERTISER = 20;
+    public static final int SLOT_CAMPAIGN = 21;
+    public static final int SLOT_AD_GROUP = 22;
+    public static final int SLOT_CREATIVE = 23;
+    public static final int SLOT_PROMOTION_TYPE = 24;
+
+    // 交叉特征槽位
+    public static final int SLOT_AD_GROUP_X_TAG_ID = 40;
+    public static final int SLOT_AD_GROUP_X_OS = 41;
+    public static final int SLOT_AD_GROUP_X_HOUR = 42;
+    public static final int SLOT_CREATIVE_X_DEVICE_TYPE = 43;
+    public static final int SLOT_CREATIVE_X_AD_SIZE = 44;
+
+    private final FeatureVector vector = new FeatureVector();
+
+    private int requestSize;
+    private long tagId;
+    private long os;
+    private long deviceType;
+    private long hour;
+    private long adSize;
+
+    /**
+     * 抽取请求和广告位特征
+     *
+     * @param hour 当前小时（0-23）
+     */
+    public FeatureExtractor loadRequest(BidRequest request, Imp imp, int hour) {
+        vector.clear();
+        this.tagId = FeatureVector.hash(imp.getTagid());
+        this.os = 0;
+        this.deviceType = 0;
+        this.hour = hour;
+        this.adSize = 0;
+
+        if (request.hasDevice()) {
+            Device device = request.getDevice();
+            os = FeatureVector.hash(device.getOs());
+            deviceType = device.getDevicetypeValue();
+            vector.add(SLOT_OS, os);
+            vector.add(SLOT_DEVICE_TYPE, deviceType);
+            vector.add(SLOT_CONNECTION_TYPE, device.getConnectiontypeValue());
+            if (device.hasGeo() && device.getGeo().hasRegionCode()) {
+                vector.add(SLOT_REGION, device.getGeo().getRegionCode());
+            }
+            vector.add(SLOT_DEVICE_MAKE, device.getMake());
+            vector.add(SLOT_DEVICE_MODEL, device.getModel());
+            vector.add(SLOT_CARRIER, device.getCarrier());
+        }
+        if (request.hasApp()) {
+            vector.add(SLOT_APP, request.getApp().getBundle());
+        } else if (request.hasSite()) {
+            vector.add(SLOT_SITE, request.getSite().getDomain());
+        }
+
+        vector.add(SLOT_HOUR, hour);
+        vector.add(SLOT_IMP_TYPE, imp.getAdCase().getNumber());
+        vector.add(SLOT_TAG_ID, tagId);
+        if (imp.hasBanner()) {
+            adSize = ((long) imp.getBanner().getW() << 32) | imp.getBanner().getH();
+        } else if (imp.hasVideo()) {
+            adSize = ((long) imp.getVideo().getW() << 32) | imp.getVideo().getH();
+        }
+        if (adSize != 0) {
+            vector.add(SLOT_AD_SIZE, adSize);
+        }
+
+        requestSize = vector.size();
+        return this;
+    }
+
+    /**
+     * 抽取候选广告的特征，覆盖上一个候选的广告特征
+     */
+    public FeatureVector loadAd(AdGroupRecord record, int creativeId) {
+        vector.truncate(requestSize);
+        vector.add(SLOT_ADVERTISER, record.getAdvertiserId());
+        vector.add(SLOT_CAMPAIGN, record.getCampaignId());
+        vector.add(SLOT_AD_GROUP, record.getId());
+        vector.add(SLOT_CREATIVE, creativeId);
+        vector.add(SLOT_PROMOTION_TYPE, record.getPromotionType());
+
+        vector.cross(SLOT_AD_GROUP_X_TAG_ID, record.getId(), tagId);
+        vector.cross(SLOT_AD_GROUP_X_OS, record.getId(), os);
+        vector.cross(SLOT_AD_GROUP_X_HOUR, record.getId(), hour);
+        vector.cross(SLOT_CREATIVE_X_DEVICE_TYPE, creativeId, deviceType);
+        if (adSize != 0) {
+            vector.cross(SLOT_CREATIVE_X_AD_SIZE, creativeId, adSize);
+        }
+        return vector;
+    }
+}
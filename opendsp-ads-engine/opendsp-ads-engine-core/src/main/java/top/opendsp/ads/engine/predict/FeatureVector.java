@@ -0,0 +1,105 @@
+package top.opendsp.ads.engine.predict;
+
+import java.util.Arrays;
+
+/**
+ * 哈希特征向量
+ * 特征以（特征槽位, 取值）哈希成64位特征键，模型按自身的哈希位数取低位作为参数下标；
+ * 数组按线程复用，容量不足时才扩容，添加特征和字符串哈希都不创建临时对象
+ *
+ * 特征键 = fmix64((slot << 56) ^ value)，字符串取值先转为小写再按FNV-1a计算64位哈希，离线训练必须使用相同的哈希方式
+ *
+ * @author weiping wang
+ */
+public final class FeatureVector {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private float[] values = new float[INITIAL_CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public long key(int index) {
+        return keys[index];
+    }
+
+    public float value(int index) {
+        return values[index];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 回退到指定长度，用于保留请求特征、替换广告特征
+     */
+    public void truncate(int size) {
+        this.size = size;
+    }
+
+    /**
+     * 添加整型取值的特征
+     */
+    public void add(int slot, long value) {
+        append(key(slot, value), 1f);
+    }
+
+    /**
+     * 添加字符串取值的特征，取值为空时不添加
+     */
+    public void add(int slot, String value) {
+        if (value != null && !value.isEmpty()) {
+            append(key(slot, hash(value)), 1f);
+        }
+    }
+
+    /**
+     * 添加两个取值的交叉特征
+     */
+    public void cross(int slot, long first, long second) {
+        append(key(slot, first * FNV_PRIME ^ second), 1f);
+    }
+
+    /**
+     * 字符串的64位FNV-1a哈希，忽略大小写，空字符串返回0
+     */
+    public static long hash(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= Character.toLowerCase(value.charAt(i));
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static long key(int slot, long value) {
+        long h = ((long) slot << 56) ^ value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private void append(long key, float value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+    }
+}
@@ -0,0 +1,88 @@
+package top.opendsp.ads.engine.predict;
+
+import java.util.Arrays;
+
+/**
+ * FTRL-Proximal在线逻辑回归
+ * 以离线模型的对数几率为基准学习残差：p = sigmoid(基准对数几率 + Σ w_i)，离线模型没有覆盖的新创意、新广告组
+ * 由在线权重快速修正；L1正则使绝大多数哈希槽位的权重保持为0
+ *
+ * 只能由单个学习线程调用，权重通过{@link #snapshot()}复制后发布给竞价线程
+ *
+ * @author weiping wang
+ */
+public final class FtrlLearner {
+
+    private final float alpha;
+    private final float beta;
+    private final float l1;
+    private final float l2;
+    private final int mask;
+
+    private final float[] z;
+    private final float[] n;
+    private final float[] weights;
+    private long updates;
+
+    /**
+     * @param hashBits 权重数组大小为2的hashBits次方
+     */
+    public FtrlLearner(int hashBits, float alpha, float beta, float l1, float l2) {
+        int dimension = 1 << hashBits;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.mask = dimension - 1;
+        this.z = new float[dimension];
+        this.n = new float[dimension];
+        this.weights = new float[dimension];
+    }
+
+    /**
+     * 训练一个样本，特征取值均为1
+     *
+     * @param keys 特征键
+     * @param size 特征数量
+     * @param baseLogit 出价时离线模型的对数几率
+     * @param clicked 是否点击
+     */
+    public void train(long[] keys, int size, float baseLogit, boolean clicked) {
+        float logit = baseLogit;
+        for (int i = 0; i < size; i++) {
+            int index = (int) keys[i] & mask;
+            float w = weight(index);
+            weights[index] = w;
+            logit += w;
+        }
+        float gradient = PredictionModel.sigmoid(logit) - (clicked ? 1f : 0f);
+        float gradientSquare = gradient * gradient;
+        for (int i = 0; i < size; i++) {
+            int index = (int) keys[i] & mask;
+            float sigma = (float) ((Math.sqrt(n[index] + gradientSquare) - Math.sqrt(n[index])) / alpha);
+            z[index] += gradient - sigma * weights[index];
+            n[index] += gradientSquare;
+            weights[index] = weight(index);
+        }
+        updates++;
+    }
+
+    /**
+     * 复制当前权重作为快照
+     */
+    public OnlineWeights snapshot() {
+        return new OnlineWeights(Arrays.copyOf(weights, weights.length), updates);
+    }
+
+    public long getUpdates() {
+        return updates;
+    }
+
+    private float weight(int index) {
+        float zi = z[index];
+        if (Math.abs(zi) <= l1) {
+            return 0f;
+        }
+        return (float) (-(zi - Math.signum(zi) * l1) / ((beta + Math.sqrt(n[index])) / alpha + l2));
+    }
+}
@@ -0,0 +1,45 @@
+package top.opendsp.ads.engine.predict;
+
+/**
+ * 在线学习模型的权重快照
+ * 由学习线程定期复制发布，发布后不可变，竞价线程通过volatile引用读取，无需加锁
+ *
+ * @author weiping wang
+ */
+public final class OnlineWeights {
+
+    private final float[] weights;
+    private final int mask;
+    private final long updates;
+
+    OnlineWeights(float[] weights, long updates) {
+        this.weights = weights;
+        this.mask = weights.length - 1;
+        this.updates = updates;
+    }
+
+    /**
+     * 空快照，对数几率恒为0
+     */
+    public static OnlineWeights empty() {
+        return new OnlineWeights(new float[1], 0);
+    }
+
+    /**
+     * 在线模型的对数几率修正量，与离线模型的对数几率相加后得到最终点击率
+     */
+    public float logit(FeatureVector features) {
+        float logit = 0;
+        for (int i = 0; i < features.size(); i++) {
+            logit += weights[(int) features.key(i) & mask] * features.value(i);
+        }
+        return logit;
+    }
+
+    /**
+     * 快照包含的训练样本数
+     */
+    public long getUpdates() {
+        return updates;
+    }
+}
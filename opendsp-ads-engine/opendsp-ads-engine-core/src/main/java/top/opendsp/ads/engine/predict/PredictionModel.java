@@ -0,0 +1,174 @@
+package top.opendsp.ads.engine.predict;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 哈希特征预估模型，支持逻辑回归（LR）和因子分解机（FM）
+ * 模型参数全部加载到堆内数组，加载后不可变，多个竞价线程共享；打分只读取参数数组，不创建任何对象
+ *
+ * 模型文件格式（大端序）：
+ * magic(int) | 格式版本(int) | 模型版本(long) | 类型(int, 1-LR, 2-FM) | 哈希位数(int) | 隐向量维度(int) | 偏置(float)
+ * | 一阶权重(float × 2^哈希位数) | 隐向量(float × 2^哈希位数 × 隐向量维度，仅FM)
+ *
+ * @author weiping wang
+ */
+public final class PredictionModel {
+
+    public static final int MAGIC = 0x4F444D4C;
+
+    public static final int FORMAT_VERSION = 1;
+
+    public static final int TYPE_LR = 1;
+
+    public static final int TYPE_FM = 2;
+
+    private static final int HEADER_SIZE = 32;
+
+    private static final int MAX_HASH_BITS = 26;
+
+    private static final int MAX_FACTOR_DIM = 64;
+
+    /**
+     * sigmoid输入的截断范围，避免exp溢出
+     */
+    private static final float MAX_LOGIT = 30f;
+
+    private final long version;
+    private final int type;
+    private final int mask;
+    private final float bias;
+    private final float[] weights;
+    private final float[] factors;
+    private final int factorDim;
+
+    private PredictionModel(long version, int type, int hashBits, float bias, float[] weights, float[] factors,
+            int factorDim) {
+        this.version = version;
+        this.type = type;
+        this.mask = (1 << hashBits) - 1;
+        this.bias = bias;
+        this.weights = weights;
+        this.factors = factors;
+        this.factorDim = factorDim;
+    }
+
+    /**
+     * 常数模型，没有可用的模型文件时按先验概率预估
+     */
+    public static PredictionModel constant(double probability) {
+        float bias = (float) Math.log(probability / (1 - probability));
+        return new PredictionModel(0, TYPE_LR, 0, bias, new float[1], null, 0);
+    }
+
+    /**
+     * 加载模型文件，格式不正确时抛出IOException
+     */
+    public static PredictionModel load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("模型文件长度不足: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("模型文件标识不正确: " + file);
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("不支持的模型文件格式版本: " + formatVersion);
+            }
+            long version = buffer.getLong();
+            int type = buffer.getInt();
+            int hashBits = buffer.getInt();
+            int factorDim = buffer.getInt();
+            float bias = buffer.getFloat();
+            if (type != TYPE_LR && type != TYPE_FM) {
+                throw new IOException("不支持的模型类型: " + type);
+            }
+            if (hashBits < 0 || hashBits > MAX_HASH_BITS) {
+                throw new IOException("模型哈希位数超出范围: " + hashBits);
+            }
+            if (type == TYPE_LR) {
+                factorDim = 0;
+            } else if (factorDim <= 0 || factorDim > MAX_FACTOR_DIM) {
+                throw new IOException("FM隐向量维度超出范围: " + factorDim);
+            }
+
+            int dimension = 1 << hashBits;
+            if ((long) dimension * factorDim > Integer.MAX_VALUE - 8) {
+                throw new IOException("FM隐向量参数数量超出范围, 哈希位数: " + hashBits + ", 维度: " + factorDim);
+            }
+            long expectedSize = HEADER_SIZE + 4L * dimension * (1 + factorDim);
+            if (fileSize != expectedSize) {
+                throw new IOException("模型文件长度不正确, 期望: " + expectedSize + ", 实际: " + fileSize);
+            }
+            float[] weights = new float[dimension];
+            readFloats(buffer, weights);
+            float[] factors = null;
+            if (factorDim > 0) {
+                factors = new float[dimension * factorDim];
+                readFloats(buffer, factors);
+            }
+            return new PredictionModel(version, type, hashBits, bias, weights, factors, factorDim);
+        }
+    }
+
+    /**
+     * 预估概率
+     */
+    public float predict(FeatureVector features) {
+        return sigmoid(logit(features));
+    }
+
+    /**
+     * 预估对数几率，截断到[-30, 30]
+     */
+    public float logit(FeatureVector features) {
+        int size = features.size();
+        float logit = bias;
+        for (int i = 0; i < size; i++) {
+            logit += weights[(int) features.key(i) & mask] * features.value(i);
+        }
+        if (factors != null) {
+            // 二阶交叉项：0.5 * Σf [(Σi v_if x_i)^2 - Σi (v_if x_i)^2]
+            float interaction = 0;
+            for (int f = 0; f < factorDim; f++) {
+                float sum = 0;
+                float sumOfSquares = 0;
+                for (int i = 0; i < size; i++) {
+                    float v = factors[((int) features.key(i) & mask) * factorDim + f] * features.value(i);
+                    sum += v;
+                    sumOfSquares += v * v;
+                }
+                interaction += sum * sum - sumOfSquares;
+            }
+            logit += 0.5f * interaction;
+        }
+        return Math.max(-MAX_LOGIT, Math.min(MAX_LOGIT, logit));
+    }
+
+    /**
+     * 对数几率转换为概率
+     */
+    public static float sigmoid(float logit) {
+        return (float) (1 / (1 + Math.exp(-logit)));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    private static void readFloats(ByteBuffer buffer, float[] target) {
+        buffer.asFloatBuffer().get(target);
+        buffer.position(buffer.position() + target.length * Float.BYTES);
+    }
+}
@@ -0,0 +1,77 @@
+package top.opendsp.ads.engine.predict;
+
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
+
+/**
+ * 单个广告位的点击率/转化率预估器
+ * 加载请求时固定本次使用的模型和在线权重并抽取请求侧特征，之后逐个预估候选，只为实际需要出价的候选抽取特征；
+ * 按线程复用，只在当前线程下一次加载前有效
+ *
+ * @author weiping wang
+ */
+public final class Predictor {
+
+    private final FeatureExtractor extractor = new FeatureExtractor();
+
+    private PredictionModel ctrModel;
+    private PredictionModel cvrModel;
+    private OnlineWeights onlineWeights;
+
+    private FeatureVector features;
+    private float baseLogit;
+    private float ctr;
+    private float cvr;
+
+    /**
+     * 加载请求侧特征和本次使用的模型
+     */
+    public Predictor load(BidRequest request, Imp imp, int hour, PredictionModel ctrModel,
+            PredictionModel cvrModel, OnlineWeights onlineWeights) {
+        this.ctrModel = ctrModel;
+        this.cvrModel = cvrModel;
+        this.onlineWeights = onlineWeights;
+        extractor.loadRequest(request, imp, hour);
+        return this;
+    }
+
+    /**
+     * 预估候选的点击率和转化率，结果通过{@link #getCtr()}和{@link #getCvr()}读取；
+     * 点击率为离线模型与在线权重的对数几率之和
+     */
+    public void predict(AdGroupRecord record, int creativeId) {
+        features = extractor.loadAd(record, creativeId);
+        baseLogit = ctrModel.logit(features);
+        ctr = PredictionModel.sigmoid(baseLogit + onlineWeights.logit(features));
+        cvr = cvrModel.predict(features);
+    }
+
+    /**
+     * 最近一次预估的候选特征，在下一次预估前有效
+     */
+    public FeatureVector getFeatures() {
+        return features;
+    }
+
+    /**
+     * 最近一次预估时离线模型的点击率对数几率，不含在线权重
+     */
+    public float getBaseLogit() {
+        return baseLogit;
+    }
+
+    /**
+     * 预估点击率（点击/展示）
+     */
+    public float getCtr() {
+        return ctr;
+    }
+
+    /**
+     * 预估转化率（转化/点击）
+     */
+    public float getCvr() {
+        return cvr;
+    }
+}
@@ -0,0 +1,45 @@
+package top.opendsp.ads.engine.predict;
+
+import java.util.Arrays;
+
+/**
+ * 待标注的训练样本，出价时记录特征键和离线模型的对数几率，展示后等待点击确定标签
+ *
+ * @author weiping wang
+ */
+public final class TrainingExample {
+
+    private final String bidId;
+    private final long[] keys;
+    private final float baseLogit;
+    private boolean clicked;
+
+    public TrainingExample(String bidId, long[] keys, int size, float baseLogit) {
+        this.bidId = bidId;
+        this.keys = Arrays.copyOf(keys, size);
+        this.baseLogit = baseLogit;
+    }
+
+    public String getBidId() {
+        return bidId;
+    }
+
+    public long[] getKeys() {
+        return keys;
+    }
+
+    public float getBaseLogit() {
+        return baseLogit;
+    }
+
+    public boolean isClicked() {
+        return clicked;
+    }
+
+    /**
+     * 标记为点击样本，在样本放入训练队列前调用
+     */
+    public void markClicked() {
+        this.clicked = true;
+    }
+}
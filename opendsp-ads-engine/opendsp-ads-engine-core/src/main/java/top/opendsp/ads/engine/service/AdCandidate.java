@@ -0,0 +1,143 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.List;
+
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.ads.engine.predict.FeatureVector;
+
+/**
+ * 广告候选对象
+ * 只保存本次竞价计算出的基本类型字段，广告组配置直接引用库存快照中的不可变记录；
+ * 对象由{@link AdCandidateBatch}按线程复用，不能在竞价线程之外持有
+ *
+ * @author weiping wang
+ */
+final class AdCandidate {
+
+    private AdGroupRecord record;
+    private int creativeId;
+    private int adSlotId;
+    private float bidPrice;
+    private float upperBound;
+    private boolean priced;
+    private long[] featureKeys = new long[0];
+    private int featureCount;
+    private float baseLogit;
+
+    /**
+     * 重置候选内容以便复用
+     */
+    void reset(AdGroupRecord record, int creativeId, int adSlotId) {
+        this.record = record;
+        this.creativeId = creativeId;
+        this.adSlotId = adSlotId;
+        this.bidPrice = 0f;
+        this.upperBound = 0f;
+        this.priced = false;
+        this.featureCount = 0;
+    }
+
+    /**
+     * 释放对库存快照的引用，避免池中对象阻止旧快照回收
+     */
+    void clear() {
+        this.record = null;
+    }
+
+    public AdGroupRecord getAdGroupRecord() {
+        return record;
+    }
+
+    public int getAdvertiserId() {
+        return record.getAdvertiserId();
+    }
+
+    public int getCampaignId() {
+        return record.getCampaignId();
+    }
+
+    public int getAdGroupId() {
+        return record.getId();
+    }
+
+    public int getCreativeId() {
+        return creativeId;
+    }
+
+    public int getAdSlotId() {
+        return adSlotId;
+    }
+
+    public String getDealId() {
+        return record.getDealId();
+    }
+
+    public float getBidPrice() {
+        return bidPrice;
+    }
+
+    public void setBidPrice(float bidPrice) {
+        this.bidPrice = bidPrice;
+    }
+
+    /**
+     * 出价上界，不需要预估即可计算，用于内部竞价剪枝
+     */
+    public float getUpperBound() {
+        return upperBound;
+    }
+
+    public void setUpperBound(float upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * 是否已计算出价
+     */
+    public boolean isPriced() {
+        return priced;
+    }
+
+    public void setPriced(boolean priced) {
+        this.priced = priced;
+    }
+
+    /**
+     * 保存计算出价时抽取的特征键和离线模型的对数几率，返回出价后作为在线学习样本，不再重新抽取特征；
+     * 键数组随候选对象复用，容量不足时才扩容
+     */
+    void retainFeatures(FeatureVector features, float baseLogit) {
+        int size = features.size();
+        if (featureKeys.length < size) {
+            featureKeys = new long[size];
+        }
+        for (int i = 0; i < size; i++) {
+            featureKeys[i] = features.key(i);
+        }
+        this.featureCount = size;
+        this.baseLogit = baseLogit;
+    }
+
+    long[] getFeatureKeys() {
+        return featureKeys;
+    }
+
+    /**
+     * 已保存的特征键数量，0表示计算出价时没有保存特征
+     */
+    int getFeatureCount() {
+        return featureCount;
+    }
+
+    float getBaseLogit() {
+        return baseLogit;
+    }
+
+    public List<String> getImpTrackers() {
+        return record.getImpTrackers();
+    }
+
+    public List<String> getClickTrackers() {
+        return record.getClickTrackers();
+    }
+}
@@ -0,0 +1,122 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.Arrays;
+
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+
+/**
+ * 单个广告位的广告候选批次
+ * 候选对象在批次内复用，各过滤阶段通过{@link #retain(int, int)}和{@link #truncate(int)}原地压缩，
+ * 被过滤掉的对象留在数组尾部供下次使用；批次按线程缓存，通过{@link #acquire()}和{@link #release()}借还
+ *
+ * @author weiping wang
+ */
+final class AdCandidateBatch {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final ThreadLocal<AdCandidateBatch> POOL = ThreadLocal.withInitial(AdCandidateBatch::new);
+
+    private AdCandidate[] candidates = new AdCandidate[INITIAL_CAPACITY];
+    private int size;
+    private boolean inUse;
+
+    private AdCandidateBatch() {
+    }
+
+    /**
+     * 借用当前线程缓存的批次，已被借用时创建新的批次
+     */
+    static AdCandidateBatch acquire() {
+        AdCandidateBatch batch = POOL.get();
+        if (batch.inUse) {
+            batch = new AdCandidateBatch();
+        }
+        batch.inUse = true;
+        return batch;
+    }
+
+    /**
+     * 归还批次，清空候选并释放对库存快照的引用
+     */
+    void release() {
+        for (int i = 0; i < size; i++) {
+            candidates[i].clear();
+        }
+        size = 0;
+        inUse = false;
+    }
+
+    /**
+     * 追加一个候选，优先复用数组中已有的对象
+     */
+    AdCandidate add(AdGroupRecord record, int creativeId, int adSlotId) {
+        if (size == candidates.length) {
+            candidates = Arrays.copyOf(candidates, size << 1);
+        }
+        AdCandidate candidate = candidates[size];
+        if (candidate == null) {
+            candidate = new AdCandidate();
+            candidates[size] = candidate;
+        }
+        size++;
+        candidate.reset(record, creativeId, adSlotId);
+        return candidate;
+    }
+
+    AdCandidate get(int index) {
+        return candidates[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 将下标为index的候选移动到已保留区域的末尾
+     * 过滤阶段按顺序遍历，对需要保留的候选依次调用，返回新的保留数量
+     *
+     * @param retained 已保留的候选数量
+     */
+    int retain(int retained, int index) {
+        if (retained != index) {
+            AdCandidate candidate = candidates[retained];
+            candidates[retained] = candidates[index];
+            candidates[index] = candidate;
+        }
+        return retained + 1;
+    }
+
+    /**
+     * 只保留前size个候选
+     */
+    void truncate(int size) {
+        for (int i = size; i < this.size; i++) {
+            candidates[i].clear();
+        }
+        this.size = size;
+    }
+
+    /**
+     * 只保留指定下标的候选并按给定顺序排列到批次前部，其余候选对象移到尾部
+     *
+     * @param indexes 选中候选的下标，处理过程中会被修改
+     */
+    void select(int[] indexes, int count) {
+        for (int i = 0; i < count; i++) {
+            int index = indexes[i];
+            // 位置i上的候选将被交换到index，如果它也被选中则同步更新其下标
+            for (int j = i + 1; j < count; j++) {
+                if (indexes[j] == i) {
+                    indexes[j] = index;
+                }
+            }
+            retain(i, index);
+        }
+        truncate(count);
+    }
+}
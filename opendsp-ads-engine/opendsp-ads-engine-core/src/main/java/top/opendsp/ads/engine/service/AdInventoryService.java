@@ -0,0 +1,109 @@
+package top.opendsp.ads.engine.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.github.javagossip.opendsp.dao.AdGroupDao;
+import io.github.javagossip.opendsp.dao.AdSlotDao;
+import io.github.javagossip.opendsp.dao.CampaignDao;
+import io.github.javagossip.opendsp.dao.CreativeDao;
+import io.github.javagossip.opendsp.model.AdGroup;
+import io.github.javagossip.opendsp.model.AdSlot;
+import io.github.javagossip.opendsp.model.Campaign;
+import io.github.javagossip.opendsp.model.Creative;
+import jakarta.annotation.PostConstruct;
+import top.opendsp.ads.engine.inventory.AdInventory;
+import top.opendsp.ads.engine.inventory.TargetingDictionary;
+
+/**
+ * 广告库存服务
+ * 启动时批量加载广告位、推广计划、广告组和创意构建内存快照，定时刷新并原子替换，竞价链路只读快照不访问数据库
+ *
+ * @author weiping wang
+ */
+@Service
+public class AdInventoryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdInventoryService.class);
+
+    @Autowired
+    private AdSlotDao adSlotDao;
+
+    @Autowired
+    private CampaignDao campaignDao;
+
+    @Autowired
+    private AdGroupDao adGroupDao;
+
+    @Autowired
+    private CreativeDao creativeDao;
+
+    private final AtomicReference<AdInventory> inventory = new AtomicReference<>(AdInventory.EMPTY);
+
+    private final AtomicLong versionGenerator = new AtomicLong();
+
+    /**
+     * 定向字典在各版本快照之间共享，保证同一取值的编码不变
+     */
+    private final TargetingDictionary targetingDictionary = new TargetingDictionary();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 获取当前库存快照
+     */
+    public AdInventory current() {
+        return inventory.get();
+    }
+
+    /**
+     * 重新加载库存快照，加载失败时继续使用旧快照
+     */
+    @Scheduled(fixedDelayString = "${opendsp.engine.inventory.refresh-interval:60000}",
+            initialDelayString = "${opendsp.engine.inventory.refresh-interval:60000}")
+    public synchronized void refresh() {
+        long startTime = System.currentTimeMillis();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            List<AdSlot> slots = adSlotDao.list(
+                adSlotDao.queryChain().eq(AdSlot::getStatus, 1)
+            );
+            List<Campaign> campaigns = campaignDao.list(
+                campaignDao.queryChain().eq(Campaign::getStatus, 1) // 正常状态，无效和预算超限的推广计划下的广告组不投放
+            );
+            List<AdGroup> adGroups = adGroupDao.list(
+                adGroupDao.queryChain()
+                    .eq(AdGroup::getStatus, 1) // 正常状态
+                    .ge(AdGroup::getEndDate, now) // 尚未结束投放，开始时间在匹配时判断
+            );
+            List<Creative> creatives = creativeDao.list(
+                creativeDao.queryChain()
+                    .eq(Creative::getStatus, 1) // 正常状态
+                    .eq(Creative::getAuditStatus, 1) // 审核通过
+            );
+
+            AdInventory snapshot = AdInventory.build(versionGenerator.incrementAndGet(), targetingDictionary,
+                slots, campaigns, adGroups, creatives);
+            inventory.set(snapshot);
+
+            LOGGER.info("广告库存快照刷新完成, version: {}, 广告位数: {}, 广告组数: {}, 耗时: {}ms",
+                snapshot.getVersion(), slots.size(), snapshot.getAdGroupCount(),
+                System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            LOGGER.error("广告库存快照刷新异常, 继续使用版本: {}", inventory.get().getVersion(), e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.predict.Predictor;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
+
+/**
+ * 内部竞价服务
+ * 从广告位的候选中选出出价最高的K个，不对全部候选排序：先按出价上界选出上界最高的K个候选计算出价，
+ * 再遍历其余候选，上界不超过当前第K高出价的候选不可能胜出，跳过预估和出价计算；
+ * 可限制同一广告主的胜出数量
+ * 
+ * @author weiping wang
+ */
+@Service
+public class AuctionService {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuctionService.class);
+    
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+    
+    @Autowired
+    private PricingService pricingService;
+    
+    @Autowired
+    private PredictionService predictionService;
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    private final LongAdder priced = new LongAdder();
+    private final LongAdder pruned = new LongAdder();
+    
+    @PostConstruct
+    public void init() {
+        engineMetrics.registerGauge("auction.priced", priced::sum);
+        engineMetrics.registerGauge("auction.pruned", pruned::sum);
+    }
+    
+    /**
+     * 执行内部竞价，批次压缩为胜出的候选并按出价从高到低排列
+     */
+    public void runAuction(AdCandidateBatch batch, BidRequest request, Imp imp) {
+        LOGGER.debug("开始内部竞价, 候选数量: {}", batch.size());
+        
+        AdsEngineProperties.Bid config = properties.getBid();
+        int maxBids = Math.max(config.getMaxBidsPerImp(), 1);
+        Workspace workspace = WORKSPACE.get();
+        
+        // 1. 计算出价上界，选出上界最高的K个候选
+        CandidateHeap seeds = workspace.seeds.reset(maxBids, 0);
+        for (int i = 0; i < batch.size(); i++) {
+            AdCandidate candidate = batch.get(i);
+            float upperBound = pricingService.calculateUpperBound(candidate, imp);
+            candidate.setUpperBound(upperBound);
+            if (upperBound > 0) {
+                seeds.offer(i, upperBound, candidate.getAdvertiserId());
+            }
+        }
+        
+        // 2. 先计算上界最高的候选，尽早抬高剪枝阈值
+        Predictor predictor = predictionService.prepare(request, imp);
+        CandidateHeap winners = workspace.winners.reset(maxBids, config.getMaxBidsPerAdvertiser());
+        int[] indexes = workspace.indexes(maxBids);
+        int seedCount = seeds.drainDescending(indexes);
+        for (int i = 0; i < seedCount; i++) {
+            price(batch, indexes[i], predictor, request, imp, winners);
+        }
+        
+        // 3. 其余候选上界超过当前第K高出价时才计算出价
+        int pricedCount = seedCount;
+        int prunedCount = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            AdCandidate candidate = batch.get(i);
+            if (candidate.isPriced() || candidate.getUpperBound() <= 0) {
+                continue;
+            }
+            if (candidate.getUpperBound() <= winners.threshold()) {
+                prunedCount++;
+                continue;
+            }
+            price(batch, i, predictor, request, imp, winners);
+            pricedCount++;
+        }
+        priced.add(pricedCount);
+        pruned.add(prunedCount);
+        
+        int count = winners.drainDescending(indexes);
+        batch.select(indexes, count);
+        LOGGER.debug("内部竞价完成, 计算出价: {}, 剪枝: {}, 胜出: {}", pricedCount, prunedCount, count);
+    }
+    
+    private void price(AdCandidateBatch batch, int index, Predictor predictor, BidRequest request, Imp imp,
+            CandidateHeap winners) {
+        AdCandidate candidate = batch.get(index);
+        float bidPrice = pricingService.calculateBidPrice(candidate, predictor, request, imp);
+        candidate.setBidPrice(bidPrice);
+        candidate.setPriced(true);
+        if (bidPrice > 0) {
+            predictionService.retainFeatures(candidate, predictor);
+            winners.offer(index, bidPrice, candidate.getAdvertiserId());
+        }
+    }
+    
+    /**
+     * 按线程复用的堆和下标数组
+     */
+    private static final class Workspace {
+        
+        private final CandidateHeap seeds = new CandidateHeap();
+        private final CandidateHeap winners = new CandidateHeap();
+        private int[] indexes = new int[8];
+        
+        int[] indexes(int capacity) {
+            if (capacity > indexes.length) {
+                indexes = new int[capacity];
+            }
+            return indexes;
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,105 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+
+/**
+ * 竞价请求上下文
+ * 保存请求级别的截止时间，由gRPC调用的deadline扣除预留时间得到，所有广告位共享同一个截止时间
+ *
+ * @author weiping wang
+ */
+public final class BidContext {
+
+    private final BidRequest request;
+    private final String userId;
+    private final long startNanos;
+    private final long deadlineNanos;
+    private volatile CompletableFuture<FrequencySnapshot> frequencyPrefetch;
+
+    private BidContext(BidRequest request, long startNanos, long deadlineNanos) {
+        this.request = request;
+        this.userId = request.hasUser() ? request.getUser().getId() : null;
+        this.startNanos = startNanos;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 根据当前gRPC调用的deadline创建上下文，未设置deadline时使用默认超时时间
+     */
+    static BidContext create(BidRequest request, AdsEngineProperties.Bid properties) {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getDefaultTimeout());
+        Deadline deadline = Context.current().getDeadline();
+        if (deadline != null) {
+            timeoutNanos = deadline.timeRemaining(TimeUnit.NANOSECONDS);
+        }
+        timeoutNanos -= TimeUnit.MILLISECONDS.toNanos(properties.getDeadlineMargin());
+        return new BidContext(request, now, now + timeoutNanos);
+    }
+
+    /**
+     * 为流式竞价请求创建上下文，流的deadline作用于整个流，每个请求从收到时开始按默认超时时间计算截止时间
+     */
+    static BidContext createStreamed(BidRequest request, AdsEngineProperties.Bid properties) {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getDefaultTimeout() - properties.getDeadlineMargin());
+        return new BidContext(request, now, now + timeoutNanos);
+    }
+
+    public BidRequest getRequest() {
+        return request;
+    }
+
+    public String getRequestId() {
+        return request.getId();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * 请求开始时发起的用户频次预取，各广告位共享
+     */
+    CompletableFuture<FrequencySnapshot> getFrequencyPrefetch() {
+        return frequencyPrefetch;
+    }
+
+    void setFrequencyPrefetch(CompletableFuture<FrequencySnapshot> frequencyPrefetch) {
+        this.frequencyPrefetch = frequencyPrefetch;
+    }
+
+    /**
+     * 已耗费的时间，单位: 纳秒
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 距离截止时间的剩余时间，单位: 纳秒，已超时返回负数
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 计算从当前时刻开始的阶段截止时间（System.nanoTime()时间轴），不晚于请求截止时间
+     *
+     * @param timeoutMillis 阶段时间预算，单位: 毫秒
+     */
+    public long stageDeadline(long timeoutMillis) {
+        long stageDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        return stageDeadline - deadlineNanos < 0 ? stageDeadline : deadlineNanos;
+    }
+}
@@ -1,19 +1,21 @@
 package top.opendsp.ads.engine.service;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import io.github.javagossip.opendsp.dao.BidLogDao;
+import io.github.javagossip.opendsp.model.BidEvent;
 import io.github.javagossip.opendsp.model.BidLog;
+import top.opendsp.ads.engine.log.BidEventWriter;
+import top.opendsp.ads.engine.log.BidLogWriter;
+import top.opendsp.proto.rtb.OpenDspNotice.Notice;
 
 /**
  * 竞价日志服务
- * 负责记录竞价日志
+ * 负责记录竞价日志和竞价结果事件
  * 
  * @author weiping wang
  */
@@ -23,67 +25,65 @@ public class BidLogService {
     private static final Logger LOGGER = LoggerFactory.getLogger(BidLogService.class);
     
     @Autowired
-    private BidLogDao bidLogDao;
+    private BidLogWriter bidLogWriter;
+    
+    @Autowired
+    private BidEventWriter bidEventWriter;
     
     /**
      * 记录竞价日志
+     * 候选对象会被竞价线程复用，需要在放入写入队列前复制字段
      */
     public void logBid(String requestId, AdCandidate candidate, boolean isWin) {
-        // 异步记录日志，避免影响竞价性能
-        CompletableFuture.runAsync(() -> {
-            try {
-                BidLog bidLog = BidLog.builder()
-                    .requestId(requestId)
-                    .advertiserId(candidate.getAdvertiserId())
-                    .campaignId(candidate.getCampaignId())
-                    .adGroupId(candidate.getAdGroupId())
-                    .creativeId(candidate.getCreativeId())
-                    .adSlotId(candidate.getAdSlotId())
-                    .bidPrice(Math.round(candidate.getBidPrice()))
-                    .isWin(isWin ? 1 : 0)
-                    .createTime(LocalDateTime.now())
-                    .build();
-                
-                bidLogDao.save(bidLog);
-                
-                LOGGER.debug("记录竞价日志, requestId: {}, creativeId: {}, bidPrice: {}, isWin: {}", 
-                    requestId, candidate.getCreativeId(), candidate.getBidPrice(), isWin);
-                
-            } catch (Exception e) {
-                LOGGER.error("记录竞价日志异常, requestId: {}, creativeId: {}", 
-                    requestId, candidate.getCreativeId(), e);
-            }
-        });
+        BidLog bidLog = BidLog.builder()
+            .requestId(requestId)
+            .advertiserId(candidate.getAdvertiserId())
+            .campaignId(candidate.getCampaignId())
+            .adGroupId(candidate.getAdGroupId())
+            .creativeId(candidate.getCreativeId())
+            .adSlotId(candidate.getAdSlotId())
+            .bidPrice((long) Math.round(candidate.getBidPrice()))
+            .isWin(isWin ? 1 : 0)
+            .createTime(LocalDateTime.now())
+            .build();
+        
+        // 由竞价日志写入线程批量写入，避免影响竞价性能
+        bidLogWriter.append(bidLog);
+    }
+    
+    /**
+     * 记录胜出事件
+     * 胜出和竞价失败只追加写入竞价结果事件，查询时通过requestId和creativeId与竞价日志关联
+     */
+    public void logWin(Notice notice) {
+        bidEventWriter.append(buildEvent(notice, BidEvent.TYPE_WIN)
+            .winPrice(Math.round(notice.getPrice()))
+            .build());
+        
+        LOGGER.debug("记录胜出事件, requestId: {}, creativeId: {}, winPrice: {}", 
+            notice.getRequestId(), notice.getCreativeId(), notice.getPrice());
     }
     
     /**
-     * 记录胜出日志
+     * 记录竞价失败事件
      */
-    public void logWin(String requestId, AdCandidate candidate, float winPrice) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                // 更新竞价日志为胜出状态
-                BidLog updateLog = BidLog.builder()
-                    .requestId(requestId)
-                    .creativeId(candidate.getCreativeId())
-                    .winPrice(Math.round(winPrice))
-                    .isWin(1)
-                    .build();
-                
-                bidLogDao.updateChain()
-                    .set(BidLog::getWinPrice, Math.round(winPrice))
-                    .set(BidLog::getIsWin, 1)
-                    .eq(BidLog::getRequestId, requestId)
-                    .eq(BidLog::getCreativeId, candidate.getCreativeId())
-                    .update();
-                
-                LOGGER.debug("记录胜出日志, requestId: {}, creativeId: {}, winPrice: {}", 
-                    requestId, candidate.getCreativeId(), winPrice);
-                
-            } catch (Exception e) {
-                LOGGER.error("记录胜出日志异常, requestId: {}, creativeId: {}", 
-                    requestId, candidate.getCreativeId(), e);
-            }
-        });
+    public void logLoss(Notice notice) {
+        bidEventWriter.append(buildEvent(notice, BidEvent.TYPE_LOSS)
+            .lossReason(notice.getLossReason())
+            .build());
+        
+        LOGGER.debug("记录竞价失败事件, requestId: {}, creativeId: {}, lossReason: {}", 
+            notice.getRequestId(), notice.getCreativeId(), notice.getLossReason());
+    }
+    
+    private BidEvent.BidEventBuilder buildEvent(Notice notice, int eventType) {
+        return BidEvent.builder()
+            .requestId(notice.getRequestId())
+            .eventType(eventType)
+            .advertiserId(notice.getAdvertiserId())
+            .campaignId(notice.getCampaignId())
+            .adGroupId(notice.getAdGroupId())
+            .creativeId(notice.getCreativeId())
+            .createTime(LocalDateTime.now());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,204 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.feature.BidLandscape;
+import top.opendsp.ads.engine.feature.PriceGrid;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.util.HashedTimingWheel;
+import top.opendsp.ads.engine.util.HashedTimingWheel.Timeout;
+import top.opendsp.proto.rtb.OpenDspRtb.AuctionType;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
+
+/**
+ * 一价竞价出价调整（Bid Shading）服务
+ * 按(ADX, 媒体广告位)维护出价胜率曲线，一价请求的出价调整为使期望收益(估值 - 出价) × 胜率最大的价格，
+ * 二价请求按估值出价；返回的一价出价等待胜出或竞价失败通知，收到通知后以实际出价更新所在广告位的曲线，
+ * 超时未收到通知的出价按竞价失败计入
+ * 
+ * @author weiping wang
+ */
+@Service
+public class BidShadingService {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(BidShadingService.class);
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    private final ConcurrentHashMap<String, BidLandscape> landscapes = new ConcurrentHashMap<>();
+    
+    /**
+     * 等待胜出或竞价失败通知的一价出价，按出价ID索引
+     */
+    private final ConcurrentHashMap<String, Timeout<PendingBid>> pendingBids = new ConcurrentHashMap<>();
+    
+    private final LongAdder shaded = new LongAdder();
+    private final LongAdder untracked = new LongAdder();
+    
+    private PriceGrid grid;
+    private HashedTimingWheel<PendingBid> pendingWheel;
+    
+    @PostConstruct
+    public void init() {
+        AdsEngineProperties.Shading config = properties.getShading();
+        grid = new PriceGrid(config.getMinPrice(), config.getMaxPrice(), config.getPriceBuckets());
+        pendingWheel = new HashedTimingWheel<>(config.getTickDuration(), TimeUnit.MILLISECONDS,
+            (int) (config.getNoticeTimeout() / config.getTickDuration()),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-shading-pending").setDaemon(true).build(),
+            this::expirePending);
+        
+        engineMetrics.registerGauge("shading.landscapes", landscapes::size);
+        engineMetrics.registerGauge("shading.pending", pendingBids::size);
+        engineMetrics.registerGauge("shading.shaded", shaded::sum);
+        engineMetrics.registerGauge("shading.untracked", untracked::sum);
+    }
+    
+    /**
+     * 获取一价请求广告位的胜率曲线，非一价请求或未启用时返回null；广告位数量达到上限后不再创建新曲线
+     */
+    public BidLandscape landscape(BidRequest request, Imp imp) {
+        AdsEngineProperties.Shading config = properties.getShading();
+        if (!config.isEnabled() || request.getAt() != AuctionType.FIRST_PRICE) {
+            return null;
+        }
+        String key = request.getExtOrDefault(config.getAdxExtKey(), "") + '/' + imp.getTagid();
+        BidLandscape landscape = landscapes.get(key);
+        if (landscape == null && landscapes.size() < config.getMaxLandscapes()) {
+            landscape = landscapes.computeIfAbsent(key, k -> new BidLandscape(grid));
+        }
+        return landscape;
+    }
+    
+    /**
+     * 计算调整后的出价，不低于估值的最低比例和广告位底价；没有胜率曲线时按估值出价
+     *
+     * @param value 广告对该次展示的估值，千次展示价格（分）
+     */
+    public float shade(BidLandscape landscape, float value, Imp imp) {
+        if (landscape == null) {
+            return value;
+        }
+        float minPrice = value * (float) properties.getShading().getMinShadingRatio();
+        if (imp.hasBidfloor()) {
+            minPrice = Math.max(minPrice, imp.getBidfloor());
+        }
+        float price = landscape.shade(value, minPrice);
+        if (price < value) {
+            shaded.increment();
+        }
+        return price;
+    }
+    
+    /**
+     * 记录返回的一价出价，等待竞价结果通知；等待数量超过上限时不记录
+     */
+    public void track(String bidId, BidLandscape landscape, float price) {
+        if (landscape == null) {
+            return;
+        }
+        if (pendingBids.size() >= properties.getShading().getMaxPending()) {
+            untracked.increment();
+            return;
+        }
+        PendingBid pending = new PendingBid(bidId, landscape, price);
+        pendingBids.put(bidId, pendingWheel.schedule(pending, properties.getShading().getNoticeTimeout(),
+            TimeUnit.MILLISECONDS));
+    }
+    
+    /**
+     * 出价胜出
+     */
+    public void onWin(String bidId) {
+        complete(bidId, true);
+    }
+    
+    /**
+     * 出价竞价失败
+     */
+    public void onLoss(String bidId) {
+        complete(bidId, false);
+    }
+    
+    /**
+     * 衰减各广告位的计数并重新拟合胜率曲线，计数衰减到接近0的广告位被移除
+     */
+    @Scheduled(fixedDelayString = "${opendsp.engine.shading.refit-interval:10000}",
+            initialDelayString = "${opendsp.engine.shading.refit-interval:10000}")
+    public void refit() {
+        AdsEngineProperties.Shading config = properties.getShading();
+        double decay = Math.pow(0.5, (double) config.getRefitInterval() / config.getHalfLife());
+        int fitted = 0;
+        Iterator<Map.Entry<String, BidLandscape>> iterator = landscapes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            BidLandscape landscape = iterator.next().getValue();
+            double totalBids = landscape.refit(decay, config.getMinSamples());
+            if (totalBids < config.getEvictThreshold()) {
+                iterator.remove();
+            } else if (totalBids >= config.getMinSamples()) {
+                fitted++;
+            }
+        }
+        LOGGER.debug("出价胜率曲线拟合完成, 广告位数量: {}, 已拟合: {}", landscapes.size(), fitted);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        pendingWheel.stop();
+    }
+    
+    private void complete(String bidId, boolean won) {
+        if (Strings.isNullOrEmpty(bidId)) {
+            return;
+        }
+        Timeout<PendingBid> timeout = pendingBids.remove(bidId);
+        if (timeout != null && timeout.cancel()) {
+            PendingBid pending = timeout.getTask();
+            pending.landscape.record(pending.price, won);
+        }
+    }
+    
+    /**
+     * 超时未收到通知，多数ADX不发送竞价失败通知，按竞价失败计入
+     */
+    private void expirePending(PendingBid pending) {
+        pendingBids.remove(pending.bidId);
+        pending.landscape.record(pending.price, false);
+    }
+    
+    /**
+     * 等待竞价结果的一价出价
+     */
+    private static final class PendingBid {
+        
+        private final String bidId;
+        private final BidLandscape landscape;
+        private final float price;
+        
+        private PendingBid(String bidId, BidLandscape landscape, float price) {
+            this.bidId = bidId;
+            this.landscape = landscape;
+            this.price = price;
+        }
+    }
+} 
\ No newline at end of file
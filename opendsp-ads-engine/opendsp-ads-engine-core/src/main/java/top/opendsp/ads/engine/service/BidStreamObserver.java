@@ -0,0 +1,131 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+import top.opendsp.proto.rtb.OpenDspRtb.BidResponse;
+
+/**
+ * 双向流式竞价的请求处理
+ * 关闭gRPC自动请求消息，启动时按流控窗口请求竞价请求，每写出一个响应再请求一个，同一个流同时处理的请求数不超过窗口；
+ * 调用方接收不及时（流不可写）时暂缓请求新的竞价请求，流恢复可写后补齐；
+ * 请求在竞价线程池中并行处理，响应写出由锁串行化
+ *
+ * @author weiping wang
+ */
+final class BidStreamObserver implements StreamObserver<BidRequest> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("opendsp-bidder");
+
+    private final ServerCallStreamObserver<BidResponse> responseObserver;
+    private final BiddingServiceImpl biddingService;
+    private final Executor executor;
+    private final AdsEngineProperties.Bid properties;
+
+    private final Object lock = new Object();
+
+    /**
+     * 已接收未响应的请求数
+     */
+    private int inFlight;
+
+    /**
+     * 流不可写期间暂缓请求的消息数
+     */
+    private int deferred;
+
+    private boolean halfClosed;
+    private boolean cancelled;
+
+    BidStreamObserver(ServerCallStreamObserver<BidResponse> responseObserver, BiddingServiceImpl biddingService,
+            Executor executor, AdsEngineProperties.Bid properties) {
+        this.responseObserver = responseObserver;
+        this.biddingService = biddingService;
+        this.executor = executor;
+        this.properties = properties;
+
+        responseObserver.disableAutoRequest();
+        responseObserver.setOnReadyHandler(this::onReady);
+        responseObserver.setOnCancelHandler(() -> {
+            synchronized (lock) {
+                cancelled = true;
+            }
+        });
+    }
+
+    /**
+     * 按流控窗口请求第一批竞价请求
+     */
+    void start() {
+        responseObserver.request(properties.getStreamWindow());
+    }
+
+    @Override
+    public void onNext(BidRequest request) {
+        BidContext context = BidContext.createStreamed(request, properties);
+        synchronized (lock) {
+            inFlight++;
+        }
+        try {
+            executor.execute(() -> complete(biddingService.handleBid(context)));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("流式竞价线程池已满, 返回空响应, requestId: {}", request.getId());
+            complete(biddingService.buildEmptyResponse(request.getId()));
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        int pending;
+        synchronized (lock) {
+            cancelled = true;
+            pending = inFlight;
+        }
+        LOGGER.warn("竞价流异常中断, 未完成请求数: {}", pending, t);
+    }
+
+    @Override
+    public void onCompleted() {
+        synchronized (lock) {
+            halfClosed = true;
+            if (inFlight == 0 && !cancelled) {
+                responseObserver.onCompleted();
+            }
+        }
+    }
+
+    private void complete(BidResponse response) {
+        synchronized (lock) {
+            inFlight--;
+            if (cancelled) {
+                return;
+            }
+            responseObserver.onNext(response);
+            if (halfClosed) {
+                if (inFlight == 0) {
+                    responseObserver.onCompleted();
+                }
+            } else if (responseObserver.isReady()) {
+                responseObserver.request(1);
+            } else {
+                deferred++;
+            }
+        }
+    }
+
+    private void onReady() {
+        synchronized (lock) {
+            if (deferred > 0 && !cancelled && !halfClosed && responseObserver.isReady()) {
+                responseObserver.request(deferred);
+                deferred = 0;
+            }
+        }
+    }
+}
@@ -1,21 +1,38 @@
 package top.opendsp.ads.engine.service;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.feature.BidLandscape;
+import top.opendsp.ads.engine.metrics.Degradation;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.metrics.PipelineStage;
+import top.opendsp.proto.rtb.OpenDspNotice.Notice;
+import top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch;
+import top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse;
 import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
 import top.opendsp.proto.rtb.OpenDspRtb.BidResponse;
 import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
@@ -35,26 +52,76 @@ public class BiddingServiceImpl extends BiddingServiceImplBase {
     
     private static final Logger LOGGER = LoggerFactory.getLogger("opendsp-bidder");
     
+    private static final AtomicLong BID_SEQUENCE = new AtomicLong();
+    
     @Autowired
     private AdMatchingService adMatchingService;
     
     @Autowired
-    private PricingService pricingService;
+    private AuctionService auctionService;
     
     @Autowired
     private TargetingService targetingService;
     
+    @Autowired
+    private PacingService pacingService;
+    
     @Autowired
     private BudgetService budgetService;
     
     @Autowired
     private FrequencyCapService frequencyCapService;
     
+    @Autowired
+    private PredictionService predictionService;
+    
+    @Autowired
+    private BidShadingService bidShadingService;
+    
     @Autowired
     private BidLogService bidLogService;
     
+    @Autowired
+    private NoticeService noticeService;
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    @Autowired
+    @Qualifier("bidExecutor")
+    private ExecutorService bidExecutor;
+    
+    @Autowired
+    @Qualifier("bidStreamExecutor")
+    private ExecutorService bidStreamExecutor;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
     @Override
     public void bid(BidRequest request, StreamObserver<BidResponse> responseObserver) {
+        responseObserver.onNext(handleBid(BidContext.create(request, properties.getBid())));
+        responseObserver.onCompleted();
+    }
+    
+    /**
+     * 双向流式竞价
+     * 一个长连接流上复用多个竞价请求，响应按完成顺序返回，通过响应id与请求id关联；
+     * 每个流同时处理的请求数不超过流控窗口，响应写出后再向调用方请求下一个竞价请求
+     */
+    @Override
+    public StreamObserver<BidRequest> bidStream(StreamObserver<BidResponse> responseObserver) {
+        BidStreamObserver observer = new BidStreamObserver(
+            (ServerCallStreamObserver<BidResponse>) responseObserver, this, bidStreamExecutor, properties.getBid());
+        observer.start();
+        return observer;
+    }
+    
+    /**
+     * 处理竞价请求，异常时返回空响应
+     */
+    BidResponse handleBid(BidContext context) {
+        BidRequest request = context.getRequest();
         String requestId = request.getId();
         long startTime = System.currentTimeMillis();
         
@@ -64,19 +131,14 @@ public class BiddingServiceImpl extends BiddingServiceImplBase {
             // 验证请求
             if (!validateRequest(request)) {
                 LOGGER.warn("竞价请求验证失败, requestId: {}", requestId);
-                responseObserver.onNext(buildEmptyResponse(requestId));
-                responseObserver.onCompleted();
-                return;
+                return buildEmptyResponse(requestId);
             }
             
+            // 预取用户频次，与广告匹配、定向和预算检查并行执行
+            context.setFrequencyPrefetch(frequencyCapService.prefetch(context));
+            
             // 处理每个广告位
-            List<SeatBid> seatBids = new ArrayList<>();
-            for (Imp imp : request.getImpList()) {
-                SeatBid seatBid = processImpression(request, imp);
-                if (seatBid != null && !seatBid.getBidList().isEmpty()) {
-                    seatBids.add(seatBid);
-                }
-            }
+            List<SeatBid> seatBids = processImpressions(context);
             
             // 构建响应
             BidResponse response = buildBidResponse(requestId, seatBids);
@@ -85,16 +147,54 @@ public class BiddingServiceImpl extends BiddingServiceImplBase {
             LOGGER.info("竞价处理完成, requestId: {}, 处理时间: {}ms, 返回广告数: {}", 
                 requestId, processingTime, countTotalBids(seatBids));
             
-            responseObserver.onNext(response);
-            responseObserver.onCompleted();
+            return response;
             
         } catch (Exception e) {
             LOGGER.error("竞价处理异常, requestId: {}", requestId, e);
-            responseObserver.onNext(buildEmptyResponse(requestId));
-            responseObserver.onCompleted();
+            return buildEmptyResponse(requestId);
         }
     }
     
+    /**
+     * 接收竞价结果通知流
+     * 每批通知在接收线程中依次应用到预算、出价预留和频次状态，流结束时返回处理结果
+     */
+    @Override
+    public StreamObserver<NoticeBatch> reportNotices(StreamObserver<NotifyResponse> responseObserver) {
+        return new StreamObserver<NoticeBatch>() {
+            
+            private long accepted;
+            
+            private long rejected;
+            
+            @Override
+            public void onNext(NoticeBatch batch) {
+                for (Notice notice : batch.getNoticesList()) {
+                    if (noticeService.apply(notice)) {
+                        accepted++;
+                    } else {
+                        rejected++;
+                    }
+                }
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                LOGGER.warn("竞价结果通知流异常中断, 已处理: {}, 已拒绝: {}", accepted, rejected, t);
+            }
+            
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(NotifyResponse.newBuilder()
+                    .setAccepted(accepted)
+                    .setRejected(rejected)
+                    .build());
+                responseObserver.onCompleted();
+                LOGGER.debug("竞价结果通知流结束, 已处理: {}, 已拒绝: {}", accepted, rejected);
+            }
+        };
+    }
+    
     /**
      * 验证竞价请求
      */
@@ -118,88 +218,226 @@ public class BiddingServiceImpl extends BiddingServiceImplBase {
         return true;
     }
     
+    /**
+     * 处理全部广告位
+     * 单个广告位直接在当前线程处理；多个广告位提交到竞价线程池并行处理，
+     * 到达截止时间后只返回已完成的广告位，未完成的广告位放弃竞价；
+     * 广告位任务产生副作用前与收集线程竞争同一个标志，收集线程先取得标志的广告位被放弃，
+     * 任务先取得标志时收集线程等待其完成，避免已放弃的广告位仍然记录日志和预留预算、频次
+     */
+    private List<SeatBid> processImpressions(BidContext context) {
+        List<Imp> imps = context.getRequest().getImpList();
+        List<SeatBid> seatBids = new ArrayList<>(imps.size());
+        if (imps.size() == 1) {
+            addSeatBid(seatBids, processImpression(context, imps.get(0), new AtomicBoolean()));
+            return seatBids;
+        }
+        
+        List<CompletableFuture<SeatBid>> futures = new ArrayList<>(imps.size());
+        List<AtomicBoolean> claims = new ArrayList<>(imps.size());
+        for (Imp imp : imps) {
+            AtomicBoolean claim = new AtomicBoolean();
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> processImpression(context, imp, claim), bidExecutor));
+                claims.add(claim);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("竞价线程池已满, 放弃广告位, requestId: {}, impId: {}", context.getRequestId(), imp.getId());
+            }
+        }
+        
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .get(Math.max(context.remainingNanos(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("竞价处理即将超时, 返回已完成的广告位, requestId: {}", context.getRequestId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // processImpression内部已处理异常，这里不会发生
+            LOGGER.error("广告位并行处理异常, requestId: {}", context.getRequestId(), e);
+        }
+        
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<SeatBid> future = futures.get(i);
+            if (!future.isDone() && claims.get(i).compareAndSet(false, true)) {
+                // 任务尚未开始产生副作用，放弃该广告位
+                future.cancel(false);
+                continue;
+            }
+            // 任务已完成或正在产生副作用，副作用只有内存操作，等待其完成
+            try {
+                addSeatBid(seatBids, future.join());
+            } catch (CompletionException | CancellationException e) {
+                LOGGER.error("广告位并行处理异常, requestId: {}", context.getRequestId(), e);
+            }
+        }
+        return seatBids;
+    }
+    
+    private void addSeatBid(List<SeatBid> seatBids, SeatBid seatBid) {
+        if (seatBid != null && !seatBid.getBidList().isEmpty()) {
+            seatBids.add(seatBid);
+        }
+    }
+    
     /**
      * 处理单个广告位的竞价
+     *
+     * @param claim 产生副作用前必须取得的标志，收集线程已放弃该广告位时取得失败
      */
-    private SeatBid processImpression(BidRequest request, Imp imp) {
+    private SeatBid processImpression(BidContext context, Imp imp, AtomicBoolean claim) {
+        BidRequest request = context.getRequest();
         String impId = imp.getId();
         LOGGER.debug("处理广告位竞价, impId: {}", impId);
         
+        AdsEngineProperties.Stage stages = properties.getStage();
+        AdCandidateBatch batch = AdCandidateBatch.acquire();
         try {
-            // 1. 广告匹配 - 根据广告位特征匹配合适的广告
-            List<AdCandidate> candidates = adMatchingService.matchAds(request, imp);
-            if (CollectionUtils.isEmpty(candidates)) {
+            // 1. 广告匹配 - 根据广告位特征匹配合适的广告，并按预算平滑的概率节流
+            long stageStart = System.nanoTime();
+            adMatchingService.matchAds(request, imp, batch);
+            pacingService.filterByPacing(batch);
+            if (!finishStage(context, PipelineStage.MATCH, stageStart, impId)) {
+                return null;
+            }
+            if (batch.isEmpty()) {
                 LOGGER.debug("没有找到匹配的广告, impId: {}", impId);
                 return null;
             }
             
             // 2. 定向过滤 - 根据定向条件过滤广告
-            List<AdCandidate> targetedCandidates = targetingService.filterByTargeting(candidates, request);
-            if (CollectionUtils.isEmpty(targetedCandidates)) {
+            stageStart = System.nanoTime();
+            targetingService.filterByTargeting(batch, request);
+            if (!finishStage(context, PipelineStage.TARGETING, stageStart, impId)) {
+                return null;
+            }
+            if (batch.isEmpty()) {
                 LOGGER.debug("定向过滤后没有广告, impId: {}", impId);
                 return null;
             }
             
-            // 3. 预算检查 - 检查广告组预算
-            List<AdCandidate> budgetFilteredCandidates = budgetService.filterByBudget(targetedCandidates);
-            if (CollectionUtils.isEmpty(budgetFilteredCandidates)) {
+            // 3. 预算检查 - 检查广告组预算，超时后降级为只使用已领取的预算额度
+            stageStart = System.nanoTime();
+            budgetService.filterByBudget(batch, context.stageDeadline(stages.getBudgetTimeout()));
+            if (!finishStage(context, PipelineStage.BUDGET, stageStart, impId)) {
+                return null;
+            }
+            if (batch.isEmpty()) {
                 LOGGER.debug("预算检查后没有广告, impId: {}", impId);
                 return null;
             }
             
-            // 4. 频次控制 - 检查用户频次限制
-            List<AdCandidate> frequencyFilteredCandidates = frequencyCapService.filterByFrequency(
-                budgetFilteredCandidates, request.hasUser() ? request.getUser().getId() : null);
-            if (CollectionUtils.isEmpty(frequencyFilteredCandidates)) {
+            // 4. 频次控制 - 检查用户频次限制，超时后降级为跳过频次检查
+            stageStart = System.nanoTime();
+            frequencyCapService.filterByFrequency(batch, context,
+                context.stageDeadline(stages.getFrequencyTimeout()));
+            if (!finishStage(context, PipelineStage.FREQUENCY, stageStart, impId)) {
+                return null;
+            }
+            if (batch.isEmpty()) {
                 LOGGER.debug("频次控制后没有广告, impId: {}", impId);
                 return null;
             }
             
-            // 5. 竞价计算 - 计算每个广告的出价
-            List<AdCandidate> pricedCandidates = pricingService.calculateBidPrices(
-                frequencyFilteredCandidates, request, imp);
-            
-            // 6. 排序和选择 - 按出价排序，选择最高价
-            pricedCandidates.sort((a, b) -> Float.compare(b.getBidPrice(), a.getBidPrice()));
+            // 5. 内部竞价 - 按出价上界剪枝，只为可能胜出的广告计算出价，选出出价最高的广告
+            stageStart = System.nanoTime();
+            auctionService.runAuction(batch, request, imp);
+            if (!finishStage(context, PipelineStage.PRICING, stageStart, impId)) {
+                return null;
+            }
+            if (batch.isEmpty()) {
+                LOGGER.debug("内部竞价后没有广告, impId: {}", impId);
+                return null;
+            }
             
-            // 7. 构建竞价响应
-            List<Bid> bids = new ArrayList<>();
-            for (int i = 0; i < Math.min(pricedCandidates.size(), 3); i++) { // 最多返回3个广告
-                AdCandidate candidate = pricedCandidates.get(i);
+            // 6. 构建竞价响应
+            stageStart = System.nanoTime();
+            BidLandscape landscape = bidShadingService.landscape(request, imp);
+            SeatBid.Builder seatBid = SeatBid.newBuilder().setSeat("opendsp");
+            for (int i = 0; i < batch.size(); i++) {
+                AdCandidate candidate = batch.get(i);
                 
-                // 记录竞价日志
-                bidLogService.logBid(request.getId(), candidate, true);
+                // 一价竞价按广告位胜率曲线调整出价，排序仍按调整前的估值
+                candidate.setBidPrice(bidShadingService.shade(landscape, candidate.getBidPrice(), imp));
                 
-                Bid bid = Bid.newBuilder()
+                seatBid.addBid(Bid.newBuilder()
                     .setId(generateBidId())
                     .setImpid(impId)
                     .setPrice(candidate.getBidPrice())
                     .setCrid(String.valueOf(candidate.getCreativeId()))
                     .setDealid(candidate.getDealId() != null ? candidate.getDealId() : "")
                     .addAllImptrackers(candidate.getImpTrackers())
-                    .addAllClktrackers(candidate.getClickTrackers())
-                    .build();
-                
-                bids.add(bid);
+                    .addAllClktrackers(candidate.getClickTrackers()));
                 
                 LOGGER.debug("生成竞价, impId: {}, creativeId: {}, bidPrice: {}", 
                     impId, candidate.getCreativeId(), candidate.getBidPrice());
             }
             
-            if (!bids.isEmpty()) {
-                return SeatBid.newBuilder()
-                    .addAllBid(bids)
-                    .setSeat("opendsp")
-                    .build();
+            // 超过截止时间或已被收集线程放弃的广告位不会出现在响应中，不再记录日志和预留预算、频次
+            if (isAbandoned(context, PipelineStage.BUILD, impId) || !claim.compareAndSet(false, true)) {
+                recordStage(PipelineStage.BUILD, stageStart);
+                return null;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                AdCandidate candidate = batch.get(i);
+                String bidId = seatBid.getBid(i).getId();
+                
+                // 记录竞价日志
+                bidLogService.logBid(request.getId(), candidate, true);
+                
+                // 胜出通知到达前，按出价预留预算
+                budgetService.reserve(bidId, candidate);
+                
+                // 展示通知到达前，该出价计入用户频次
+                frequencyCapService.reserve(bidId, context.getUserId(), candidate.getAdGroupRecord());
+                
+                // 记录出价特征，展示和点击通知到达后作为在线学习样本
+                predictionService.capture(bidId, candidate);
+                bidShadingService.track(bidId, landscape, candidate.getBidPrice());
             }
+            recordStage(PipelineStage.BUILD, stageStart);
+            
+            return seatBid.build();
             
         } catch (Exception e) {
             LOGGER.error("处理广告位竞价异常, impId: {}", impId, e);
+        } finally {
+            batch.release();
         }
         
         return null;
     }
     
+    /**
+     * 记录阶段耗时，并检查请求是否已超过截止时间
+     * 超过截止时间的广告位不会出现在响应中，返回false时调用方应放弃该广告位，不再生成竞价和日志
+     */
+    private boolean finishStage(BidContext context, PipelineStage stage, long stageStart, String impId) {
+        recordStage(stage, stageStart);
+        return !isAbandoned(context, stage, impId);
+    }
+    
+    /**
+     * 检查请求是否已超过截止时间，超过时记录降级
+     */
+    private boolean isAbandoned(BidContext context, PipelineStage stage, String impId) {
+        if (context.isExpired()) {
+            engineMetrics.degrade(Degradation.IMP_EXPIRED);
+            LOGGER.debug("广告位处理超时, impId: {}, stage: {}", impId, stage);
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 记录阶段耗时及是否超出阶段时间预算
+     */
+    private void recordStage(PipelineStage stage, long stageStart) {
+        long elapsed = System.nanoTime() - stageStart;
+        engineMetrics.recordStage(stage, elapsed,
+            elapsed > TimeUnit.MILLISECONDS.toNanos(properties.getStage().getTimeout(stage)));
+    }
+    
     /**
      * 构建竞价响应
      */
@@ -214,7 +452,7 @@ public class BiddingServiceImpl extends BiddingServiceImplBase {
     /**
      * 构建空响应
      */
-    private BidResponse buildEmptyResponse(String requestId) {
+    BidResponse buildEmptyResponse(String requestId) {
         return BidResponse.newBuilder()
             .setId(requestId)
             .setBidid(generateBidId())
@@ -222,10 +460,10 @@ public class BiddingServiceImpl extends BiddingServiceImplBase {
     }
     
     /**
-     * 生成竞价ID
+     * 生成竞价ID，同一毫秒内按序号区分，出价预留以竞价ID为索引
      */
     private String generateBidId() {
-        return "bid_" + System.currentTimeMillis() + "_" + ThreadLocalRandom.current().nextInt(10000);
+        return "bid_" + System.currentTimeMillis() + "_" + BID_SEQUENCE.incrementAndGet();
     }
     
     /**
@@ -237,63 +475,3 @@ public class BiddingServiceImpl extends BiddingServiceImplBase {
             .sum();
     }
 }
-
-/**
- * 广告候选对象
- */
-class AdCandidate {
-    private Integer advertiserId;
-    private Integer campaignId;
-    private Integer adGroupId;
-    private Integer creativeId;
-    private Integer adSlotId;
-    private String dealId;
-    private Float bidPrice;
-    private List<String> impTrackers;
-    private List<String> clickTrackers;
-    private Map<String, Object> targetingData;
-    
-    // 构造函数
-    public AdCandidate(Integer advertiserId, Integer campaignId, Integer adGroupId, 
-                      Integer creativeId, Integer adSlotId) {
-        this.advertiserId = advertiserId;
-        this.campaignId = campaignId;
-        this.adGroupId = adGroupId;
-        this.creativeId = creativeId;
-        this.adSlotId = adSlotId;
-        this.impTrackers = new ArrayList<>();
-        this.clickTrackers = new ArrayList<>();
-        this.targetingData = new HashMap<>();
-    }
-    
-    // Getters and Setters
-    public Integer getAdvertiserId() { return advertiserId; }
-    public void setAdvertiserId(Integer advertiserId) { this.advertiserId = advertiserId; }
-    
-    public Integer getCampaignId() { return campaignId; }
-    public void setCampaignId(Integer campaignId) { this.campaignId = campaignId; }
-    
-    public Integer getAdGroupId() { return adGroupId; }
-    public void setAdGroupId(Integer adGroupId) { this.adGroupId = adGroupId; }
-    
-    public Integer getCreativeId() { return creativeId; }
-    public void setCreativeId(Integer creativeId) { this.creativeId = creativeId; }
-    
-    public Integer getAdSlotId() { return adSlotId; }
-    public void setAdSlotId(Integer adSlotId) { this.adSlotId = adSlotId; }
-    
-    public String getDealId() { return dealId; }
-    public void setDealId(String dealId) { this.dealId = dealId; }
-    
-    public Float getBidPrice() { return bidPrice; }
-    public void setBidPrice(Float bidPrice) { this.bidPrice = bidPrice; }
-    
-    public List<String> getImpTrackers() { return impTrackers; }
-    public void setImpTrackers(List<String> impTrackers) { this.impTrackers = impTrackers; }
-    
-    public List<String> getClickTrackers() { return clickTrackers; }
-    public void setClickTrackers(List<String> clickTrackers) { this.clickTrackers = clickTrackers; }
-    
-    public Map<String, Object> getTargetingData() { return targetingData; }
-    public void setTargetingData(Map<String, Object> targetingData) { this.targetingData = targetingData; }
-}
@@ -0,0 +1,54 @@
+package top.opendsp.ads.engine.service;
+
+import top.opendsp.ads.engine.budget.BudgetLease;
+
+/**
+ * 出价预留
+ * 返回出价时按出价从广告组、推广计划和广告主的租约中预先扣减的花费，胜出时按实际成交价结算，未胜出或超时后退回；
+ * 记录预留时的租约，跨天后仍结算到原租约
+ *
+ * @author weiping wang
+ */
+final class BudgetReservation {
+
+    private final String bidId;
+    private final int adGroupId;
+    private final long cost;
+    private final BudgetLease adGroupLease;
+    private final BudgetLease campaignLease;
+    private final BudgetLease advertiserLease;
+
+    BudgetReservation(String bidId, int adGroupId, long cost, BudgetLease adGroupLease, BudgetLease campaignLease,
+            BudgetLease advertiserLease) {
+        this.bidId = bidId;
+        this.adGroupId = adGroupId;
+        this.cost = cost;
+        this.adGroupLease = adGroupLease;
+        this.campaignLease = campaignLease;
+        this.advertiserLease = advertiserLease;
+    }
+
+    String getBidId() {
+        return bidId;
+    }
+
+    int getAdGroupId() {
+        return adGroupId;
+    }
+
+    long getCost() {
+        return cost;
+    }
+
+    BudgetLease getAdGroupLease() {
+        return adGroupLease;
+    }
+
+    BudgetLease getCampaignLease() {
+        return campaignLease;
+    }
+
+    BudgetLease getAdvertiserLease() {
+        return advertiserLease;
+    }
+}
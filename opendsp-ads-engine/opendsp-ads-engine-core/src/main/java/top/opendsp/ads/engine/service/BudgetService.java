@@ -1,26 +1,49 @@
 package top.opendsp.ads.engine.service;
 
-import java.util.List;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.roaringbitmap.RoaringBitmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import io.github.javagossip.opendsp.dao.AdStatDao;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.github.javagossip.opendsp.dao.AdvertiserBalanceDao;
-import io.github.javagossip.opendsp.model.AdStat;
 import io.github.javagossip.opendsp.model.AdvertiserBalance;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import top.opendsp.ads.engine.budget.BudgetLease;
+import top.opendsp.ads.engine.budget.BudgetStore;
+import top.opendsp.ads.engine.budget.BudgetTree;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.ads.engine.inventory.AdInventory;
+import top.opendsp.ads.engine.metrics.Degradation;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.util.HashedTimingWheel;
+import top.opendsp.ads.engine.util.HashedTimingWheel.Timeout;
 
 /**
  * 预算服务
- * 负责检查广告组预算和广告主余额
+ * 负责检查广告组预算、推广计划预算和广告主余额；引擎从共享预算存储领取各级预算的一部分额度（预算租约），
+ * 竞价时只检查本地租约的剩余额度，额度不足时异步续租，整个集群领取的额度不超过预算和余额；
+ * 按广告主 → 推广计划 → 广告组的层级定期汇总预算已用完的广告组，广告匹配阶段直接跳过这些广告组
+ * 
+ * 金额统一使用千分之一分为单位，千次展示出价（分）在数值上等于单次展示的花费
  * 
  * @author weiping wang
  */
@@ -29,46 +52,139 @@ public class BudgetService {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(BudgetService.class);
     
-    @Autowired
-    private AdStatDao adStatDao;
+    private static final long MILLI_CENTS_PER_CENT = 1000;
+    
+    /**
+     * 预算池按天领取，保留两天以覆盖跨天时仍在使用的租约
+     */
+    private static final long POOL_TTL_SECONDS = TimeUnit.DAYS.toSeconds(2);
+    
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
     
     @Autowired
     private AdvertiserBalanceDao advertiserBalanceDao;
     
-    // 内存中的预算缓存，避免频繁查询数据库
-    private final ConcurrentHashMap<String, AtomicLong> budgetCache = new ConcurrentHashMap<>();
+    @Autowired
+    private AdInventoryService adInventoryService;
+    
+    @Autowired
+    private BudgetStore budgetStore;
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    @Autowired
+    @Qualifier("budgetExecutor")
+    private Executor budgetExecutor;
+    
+    private final ConcurrentHashMap<Integer, BudgetLease> adGroupLeases = new ConcurrentHashMap<>();
+    
+    private final ConcurrentHashMap<Integer, BudgetLease> campaignLeases = new ConcurrentHashMap<>();
+    
+    private final ConcurrentHashMap<Integer, BudgetLease> advertiserLeases = new ConcurrentHashMap<>();
+    
+    private volatile BudgetTree budgetTree = BudgetTree.EMPTY;
     
     /**
-     * 根据预算过滤广告候选
+     * 预算已用完的广告组，只读，定期整体替换
+     */
+    private volatile RoaringBitmap exhaustedAdGroups = new RoaringBitmap();
+    
+    /**
+     * 未结算的出价预留，按出价ID索引
      */
-    public List<AdCandidate> filterByBudget(List<AdCandidate> candidates) {
-        LOGGER.debug("开始预算过滤, 候选数量: {}", candidates.size());
+    private final ConcurrentHashMap<String, Timeout<BudgetReservation>> reservations = new ConcurrentHashMap<>();
+    
+    /**
+     * 各广告组未结算的预留金额
+     */
+    private final ConcurrentHashMap<Integer, LongAdder> outstandingReservations = new ConcurrentHashMap<>();
+    
+    private HashedTimingWheel<BudgetReservation> reservationWheel;
+    
+    private volatile String today = LocalDate.now().format(DATE_FORMATTER);
+    
+    @PostConstruct
+    public void init() {
+        AdsEngineProperties.Budget config = properties.getBudget();
+        reservationWheel = new HashedTimingWheel<>(config.getReservationTickDuration(), TimeUnit.MILLISECONDS,
+            (int) (config.getReservationTtl() / config.getReservationTickDuration()),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-budget-reservation").setDaemon(true).build(),
+            this::expireReservation);
+        
+        engineMetrics.registerGauge("budget.lease.ad-groups", adGroupLeases::size);
+        engineMetrics.registerGauge("budget.lease.campaigns", campaignLeases::size);
+        engineMetrics.registerGauge("budget.lease.advertisers", advertiserLeases::size);
+        engineMetrics.registerGauge("budget.exhausted.ad-groups", () -> exhaustedAdGroups.getLongCardinality());
+        engineMetrics.registerGauge("budget.reservation.count", reservationWheel::pending);
+        engineMetrics.registerGauge("budget.reservation.amount", () -> outstandingReservations.values().stream()
+            .mapToLong(LongAdder::sum)
+            .sum());
+        engineMetrics.registerGauge("budget.reservation.max-ad-group-amount", () -> outstandingReservations.values()
+            .stream()
+            .mapToLong(LongAdder::sum)
+            .max()
+            .orElse(0));
         
-        List<AdCandidate> filteredCandidates = new ArrayList<>();
+        refreshBalances();
+    }
+    
+    /**
+     * 根据预算过滤广告候选
+     * 超过阶段截止时间后不再同步领取额度，剩余候选只使用已领取的租约，没有租约的候选不参与竞价
+     *
+     * @param deadlineNanos 阶段截止时间，System.nanoTime()时间轴
+     */
+    public void filterByBudget(AdCandidateBatch batch, long deadlineNanos) {
+        LOGGER.debug("开始预算过滤, 候选数量: {}", batch.size());
         
-        for (AdCandidate candidate : candidates) {
-            if (checkBudget(candidate)) {
-                filteredCandidates.add(candidate);
+        int retained = 0;
+        boolean degraded = false;
+        for (int i = 0; i < batch.size(); i++) {
+            if (!degraded && System.nanoTime() - deadlineNanos >= 0) {
+                degraded = true;
+                engineMetrics.degrade(Degradation.CACHED_SPEND);
+                LOGGER.debug("预算检查超时, 剩余候选只使用已领取的预算额度, 剩余候选数量: {}", batch.size() - i);
+            }
+            if (checkBudget(batch.get(i), degraded)) {
+                retained = batch.retain(retained, i);
             }
         }
+        batch.truncate(retained);
         
-        LOGGER.debug("预算过滤完成, 剩余候选数量: {}", filteredCandidates.size());
-        return filteredCandidates;
+        LOGGER.debug("预算过滤完成, 剩余候选数量: {}", retained);
     }
     
     /**
-     * 检查广告候选的预算是否充足
+     * 检查广告候选的预算是否充足，剩余额度至少要够按出价计算的一次展示
      */
-    private boolean checkBudget(AdCandidate candidate) {
+    private boolean checkBudget(AdCandidate candidate, boolean leasedOnly) {
         try {
+            AdGroupRecord record = candidate.getAdGroupRecord();
+            long cost = record.getBidPrice();
+            
             // 1. 检查广告主余额
-            if (!checkAdvertiserBalance(candidate)) {
+            BudgetLease advertiserLease = advertiserLeases.get(record.getAdvertiserId());
+            if (advertiserLease == null || !checkLease(advertiserLease, cost, leasedOnly)) {
                 LOGGER.debug("广告主余额不足, advertiserId: {}", candidate.getAdvertiserId());
                 return false;
             }
             
-            // 2. 检查广告组日预算
-            if (!checkAdGroupDailyBudget(candidate)) {
+            // 2. 检查推广计划日预算，未设置时不限
+            if (record.getCampaignBudget() > 0 && !checkLease(campaignLease(record), cost, leasedOnly)) {
+                LOGGER.debug("推广计划日预算不足, campaignId: {}", record.getCampaignId());
+                return false;
+            }
+            
+            // 3. 检查广告组日预算
+            if (record.getBudget() <= 0) {
+                LOGGER.debug("广告组预算未设置或为0, adGroupId: {}", candidate.getAdGroupId());
+                return false;
+            }
+            if (!checkLease(adGroupLease(record), cost, leasedOnly)) {
                 LOGGER.debug("广告组日预算不足, adGroupId: {}", candidate.getAdGroupId());
                 return false;
             }
@@ -82,126 +198,315 @@ public class BudgetService {
     }
     
     /**
-     * 检查广告主余额
+     * 检查租约剩余额度，需要续租时触发续租；从未领取过额度的租约在未降级时同步领取
      */
-    private boolean checkAdvertiserBalance(AdCandidate candidate) {
-        try {
-            AdvertiserBalance balance = advertiserBalanceDao.getOne(
-                advertiserBalanceDao.queryChain().eq(AdvertiserBalance::getAdvertiserId, candidate.getAdvertiserId())
-            );
-            
-            if (balance == null) {
-                LOGGER.warn("广告主余额记录不存在, advertiserId: {}", candidate.getAdvertiserId());
-                return false;
+    private boolean checkLease(BudgetLease lease, long cost, boolean leasedOnly) {
+        if (lease.needsRenewal(System.nanoTime())) {
+            if (!leasedOnly && !lease.isInitialized()) {
+                if (lease.tryBeginRenewal()) {
+                    renew(lease);
+                }
+            } else {
+                renewAsync(lease);
             }
+        }
+        return lease.remaining() >= cost;
+    }
+    
+    private BudgetLease adGroupLease(AdGroupRecord record) {
+        long limit = record.getBudget() * MILLI_CENTS_PER_CENT;
+        BudgetLease lease = adGroupLeases.get(record.getId());
+        if (lease == null) {
+            lease = adGroupLeases.computeIfAbsent(record.getId(),
+                id -> new BudgetLease(adGroupPoolKey(id), limit));
+        }
+        lease.updateLimit(limit);
+        return lease;
+    }
+    
+    private BudgetLease campaignLease(AdGroupRecord record) {
+        long limit = record.getCampaignBudget() * MILLI_CENTS_PER_CENT;
+        BudgetLease lease = campaignLeases.get(record.getCampaignId());
+        if (lease == null) {
+            lease = campaignLeases.computeIfAbsent(record.getCampaignId(),
+                id -> new BudgetLease("budget:cmp:" + id + ":" + today, limit));
+        }
+        lease.updateLimit(limit);
+        return lease;
+    }
+    
+    private String adGroupPoolKey(int adGroupId) {
+        return "budget:ag:" + adGroupId + ":" + today;
+    }
+    
+    private String advertiserPoolKey(int advertiserId) {
+        return "budget:adv:" + advertiserId + ":" + today;
+    }
+    
+    private void renewAsync(BudgetLease lease) {
+        if (!lease.tryBeginRenewal()) {
+            return;
+        }
+        try {
+            budgetExecutor.execute(() -> renew(lease));
+        } catch (RejectedExecutionException e) {
+            lease.failRenewal(TimeUnit.MILLISECONDS.toNanos(properties.getBudget().getRetryInterval()));
+            LOGGER.warn("预算续租任务被拒绝, key: {}", lease.getKey());
+        }
+    }
+    
+    /**
+     * 从共享预算池领取额度，调用前必须已通过{@link BudgetLease#tryBeginRenewal()}取得续租权
+     */
+    private void renew(BudgetLease lease) {
+        AdsEngineProperties.Budget config = properties.getBudget();
+        long retryNanos = TimeUnit.MILLISECONDS.toNanos(config.getRetryInterval());
+        try {
+            long limit = lease.getLimit();
+            long slice = Math.min(limit,
+                Math.max(config.getMinSlice() * MILLI_CENTS_PER_CENT, (long) (limit * config.getSliceRatio())));
+            long granted = slice > 0 ? budgetStore.claim(lease.getKey(), limit, slice, POOL_TTL_SECONDS) : 0;
+            lease.completeRenewal(slice, granted, config.getRenewRatio(), retryNanos);
             
-            // 检查可用余额（总余额 - 冻结余额）
-            long availableBalance = balance.getBalance() - balance.getFrozenBalance();
-            if (availableBalance <= 0) {
-                LOGGER.debug("广告主可用余额不足, advertiserId: {}, 可用余额: {}", 
-                    candidate.getAdvertiserId(), availableBalance);
-                return false;
-            }
-            
-            return true;
+            LOGGER.debug("预算续租完成, key: {}, 期望额度: {}, 领取额度: {}, 剩余额度: {}",
+                lease.getKey(), slice, granted, lease.remaining());
             
         } catch (Exception e) {
-            LOGGER.error("检查广告主余额异常, advertiserId: {}", candidate.getAdvertiserId(), e);
-            return false;
+            lease.failRenewal(retryNanos);
+            LOGGER.error("预算续租异常, key: {}", lease.getKey(), e);
         }
     }
     
     /**
-     * 检查广告组日预算
+     * 广告主可用余额（总余额 - 冻结余额）
+     * 余额按日结算，当天以可用余额作为广告主预算池的上限
+     */
+    private static long availableBalance(AdvertiserBalance balance) {
+        long availableBalance = balance.getBalance() - balance.getFrozenBalance();
+        return Math.max(availableBalance, 0) * MILLI_CENTS_PER_CENT;
+    }
+    
+    /**
+     * 定期加载库存中全部广告主的可用余额，一次查询全部广告主，新出现的广告主在这里创建租约
+     * 出价路径不查询数据库，还没有租约的广告主视为余额不可用，等下一次刷新后参与竞价
      */
-    private boolean checkAdGroupDailyBudget(AdCandidate candidate) {
+    @Scheduled(fixedDelayString = "${opendsp.engine.budget.balance-refresh-interval:10000}",
+            initialDelayString = "${opendsp.engine.budget.balance-refresh-interval:10000}")
+    public void refreshBalances() {
+        Set<Integer> advertiserIds = new HashSet<>(advertiserLeases.keySet());
+        for (AdGroupRecord record : adInventoryService.current().getAdGroups()) {
+            advertiserIds.add(record.getAdvertiserId());
+        }
+        if (advertiserIds.isEmpty()) {
+            return;
+        }
         try {
-            Long budget = (Long) candidate.getTargetingData().get("budget");
-            if (budget == null || budget <= 0) {
-                LOGGER.debug("广告组预算未设置或为0, adGroupId: {}", candidate.getAdGroupId());
-                return false;
-            }
-            
-            // 获取今日已消费金额
-            long todaySpend = getTodaySpend(candidate.getAdGroupId());
-            
-            // 检查是否超过预算
-            if (todaySpend >= budget) {
-                LOGGER.debug("广告组今日预算已用完, adGroupId: {}, 预算: {}, 已消费: {}", 
-                    candidate.getAdGroupId(), budget, todaySpend);
-                return false;
+            List<AdvertiserBalance> balances = advertiserBalanceDao.list(
+                advertiserBalanceDao.queryChain().in(AdvertiserBalance::getAdvertiserId, advertiserIds)
+            );
+            for (AdvertiserBalance balance : balances) {
+                long limit = availableBalance(balance);
+                advertiserLeases.computeIfAbsent(balance.getAdvertiserId(),
+                    id -> new BudgetLease(advertiserPoolKey(id), limit))
+                    .updateLimit(limit);
             }
             
-            return true;
+            LOGGER.debug("广告主余额刷新完成, 广告主数: {}, 余额记录数: {}", advertiserIds.size(), balances.size());
             
         } catch (Exception e) {
-            LOGGER.error("检查广告组日预算异常, adGroupId: {}", candidate.getAdGroupId(), e);
-            return false;
+            LOGGER.error("刷新广告主余额异常", e);
         }
     }
     
     /**
-     * 获取今日已消费金额
+     * 查询广告组当天预算池已领取的额度占日预算的比例，各引擎未用完的租约额度也计入，可作为集群花费进度的上限估计
+     *
+     * @return 与adGroups顺序一致的比例数组
      */
-    private long getTodaySpend(Integer adGroupId) {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String cacheKey = "spend_" + adGroupId + "_" + today;
+    public double[] getClaimedFractions(List<AdGroupRecord> adGroups) {
+        List<String> keys = new ArrayList<>(adGroups.size());
+        for (AdGroupRecord record : adGroups) {
+            keys.add(adGroupPoolKey(record.getId()));
+        }
+        long[] claimed = budgetStore.claimed(keys);
+        double[] fractions = new double[claimed.length];
+        for (int i = 0; i < claimed.length; i++) {
+            long limit = adGroups.get(i).getBudget() * MILLI_CENTS_PER_CENT;
+            fractions[i] = limit > 0 ? (double) claimed[i] / limit : 1;
+        }
+        return fractions;
+    }
+    
+    /**
+     * 返回出价时按出价预留花费，并在预留有效期后自动退回
+     * 预留立即扣减各级租约额度，同一广告组的并发胜出不会超出已领取的预算
+     */
+    public void reserve(String bidId, AdCandidate candidate) {
+        // 千次展示出价（分）在数值上等于单次展示的最高花费
+        long cost = Math.round(candidate.getBidPrice());
+        BudgetReservation reservation = new BudgetReservation(bidId, candidate.getAdGroupId(), cost,
+            adGroupLeases.get(candidate.getAdGroupId()), campaignLeases.get(candidate.getCampaignId()),
+            advertiserLeases.get(candidate.getAdvertiserId()));
         
-        // 先从缓存中获取
-        AtomicLong cachedSpend = budgetCache.get(cacheKey);
-        if (cachedSpend != null) {
-            return cachedSpend.get();
+        consume(reservation.getAdGroupLease(), cost);
+        consume(reservation.getCampaignLease(), cost);
+        consume(reservation.getAdvertiserLease(), cost);
+        outstandingReservations.computeIfAbsent(candidate.getAdGroupId(), id -> new LongAdder()).add(cost);
+        reservations.put(bidId, reservationWheel.schedule(reservation,
+            properties.getBudget().getReservationTtl(), TimeUnit.MILLISECONDS));
+    }
+    
+    /**
+     * 胜出后按实际花费结算，多退少补；预留已超时退回时按实际花费重新扣减
+     *
+     * @param cost 单次展示的花费，单位: 千分之一分，即千次展示价格（分）
+     */
+    public void settle(String bidId, int advertiserId, int campaignId, int adGroupId, long cost) {
+        BudgetReservation reservation = removeReservation(bidId);
+        if (reservation != null) {
+            consume(reservation.getAdGroupLease(), cost - reservation.getCost());
+            consume(reservation.getCampaignLease(), cost - reservation.getCost());
+            consume(reservation.getAdvertiserLease(), cost - reservation.getCost());
+        } else {
+            consume(adGroupLeases.get(adGroupId), cost);
+            consume(campaignLeases.get(campaignId), cost);
+            consume(advertiserLeases.get(advertiserId), cost);
         }
         
+        LOGGER.debug("结算花费, bidId: {}, adGroupId: {}, cost: {}", bidId, adGroupId, cost);
+    }
+    
+    /**
+     * 未胜出时退回预留
+     */
+    public void release(String bidId) {
+        BudgetReservation reservation = removeReservation(bidId);
+        if (reservation != null) {
+            refund(reservation);
+        }
+    }
+    
+    /**
+     * 广告组未结算的预留金额，用于观察超投风险
+     */
+    public long getOutstandingReservation(int adGroupId) {
+        LongAdder outstanding = outstandingReservations.get(adGroupId);
+        return outstanding != null ? outstanding.sum() : 0;
+    }
+    
+    /**
+     * 取消预留的超时任务并返回预留，预留已超时或不存在时返回null
+     */
+    private BudgetReservation removeReservation(String bidId) {
+        Timeout<BudgetReservation> timeout = reservations.remove(bidId);
+        if (timeout == null || !timeout.cancel()) {
+            return null;
+        }
+        BudgetReservation reservation = timeout.getTask();
+        outstandingReservations.get(reservation.getAdGroupId()).add(-reservation.getCost());
+        return reservation;
+    }
+    
+    private void expireReservation(BudgetReservation reservation) {
+        reservations.remove(reservation.getBidId());
+        outstandingReservations.get(reservation.getAdGroupId()).add(-reservation.getCost());
+        refund(reservation);
+        LOGGER.debug("出价预留超时退回, bidId: {}, cost: {}", reservation.getBidId(), reservation.getCost());
+    }
+    
+    private void refund(BudgetReservation reservation) {
+        consume(reservation.getAdGroupLease(), -reservation.getCost());
+        consume(reservation.getCampaignLease(), -reservation.getCost());
+        consume(reservation.getAdvertiserLease(), -reservation.getCost());
+    }
+    
+    /**
+     * 扣减租约额度，低于续租阈值时异步续租；amount为负数时退回额度
+     */
+    private void consume(BudgetLease lease, long amount) {
+        if (lease == null || amount == 0) {
+            return;
+        }
+        lease.consume(amount);
+        if (amount > 0 && lease.needsRenewal(System.nanoTime())) {
+            renewAsync(lease);
+        }
+    }
+    
+    /**
+     * 获取预算已用完的广告组，广告匹配阶段在创建候选前过滤
+     */
+    public RoaringBitmap getExhaustedAdGroups() {
+        return exhaustedAdGroups;
+    }
+    
+    /**
+     * 按预算层级汇总预算已用完的广告组，库存快照版本变化时重建层级
+     */
+    @Scheduled(fixedDelayString = "${opendsp.engine.budget.exhausted-refresh-interval:1000}",
+            initialDelayString = "${opendsp.engine.budget.exhausted-refresh-interval:1000}")
+    public void refreshExhausted() {
         try {
-            // 从数据库查询今日消费
-            List<AdStat> stats = adStatDao.list(
-                adStatDao.queryChain()
-                    .eq(AdStat::getAdGroupId, adGroupId)
-                    .eq(AdStat::getStatDate, today)
-            );
-            
-            long totalSpend = stats.stream()
-                .mapToLong(AdStat::getCost)
-                .sum();
-            
-            // 存入缓存
-            budgetCache.put(cacheKey, new AtomicLong(totalSpend));
-            
-            return totalSpend;
-            
+            AdInventory inventory = adInventoryService.current();
+            BudgetTree tree = budgetTree;
+            if (tree.getVersion() != inventory.getVersion()) {
+                tree = BudgetTree.build(inventory.getVersion(), inventory.getAdGroups());
+                budgetTree = tree;
+            }
+            exhaustedAdGroups = tree.exhaustedAdGroups(
+                id -> isExhausted(advertiserLeases.get(id)),
+                id -> isExhausted(campaignLeases.get(id)),
+                id -> isExhausted(adGroupLeases.get(id)));
         } catch (Exception e) {
-            LOGGER.error("获取今日消费异常, adGroupId: {}", adGroupId, e);
-            return 0;
+            LOGGER.error("汇总预算用完的广告组异常", e);
         }
     }
     
+    private static boolean isExhausted(BudgetLease lease) {
+        return lease != null && lease.isExhausted();
+    }
+    
     /**
-     * 更新消费缓存
+     * 日期切换后丢弃前一天的租约，新的租约从当天的预算池领取
+     * 广告主租约沿用已加载的余额上限切换到当天的预算池，不回到出价路径查询数据库
      */
-    public void updateSpendCache(Integer adGroupId, long cost) {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String cacheKey = "spend_" + adGroupId + "_" + today;
-        
-        AtomicLong cachedSpend = budgetCache.computeIfAbsent(cacheKey, k -> new AtomicLong(0));
-        cachedSpend.addAndGet(cost);
+    @Scheduled(fixedDelayString = "${opendsp.engine.budget.rollover-check-interval:1000}",
+            initialDelayString = "${opendsp.engine.budget.rollover-check-interval:1000}")
+    public void rollover() {
+        String date = LocalDate.now().format(DATE_FORMATTER);
+        if (date.equals(today)) {
+            return;
+        }
+        today = date;
+        adGroupLeases.clear();
+        campaignLeases.clear();
+        advertiserLeases.replaceAll((id, lease) -> new BudgetLease(advertiserPoolKey(id), lease.getLimit()));
+        exhaustedAdGroups = new RoaringBitmap();
         
-        LOGGER.debug("更新消费缓存, adGroupId: {}, 增加消费: {}, 总消费: {}", 
-            adGroupId, cost, cachedSpend.get());
+        LOGGER.info("预算租约已切换到新的日期: {}", date);
     }
     
     /**
-     * 清理过期缓存
+     * 停止时归还未使用的额度，供其他引擎领取；未结算的预留视为未胜出
      */
-    public void cleanExpiredCache() {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        
-        budgetCache.entrySet().removeIf(entry -> {
-            String key = entry.getKey();
-            // 如果不是今天的缓存，则清理
-            return !key.contains(today);
-        });
-        
-        LOGGER.debug("清理过期预算缓存完成");
+    @PreDestroy
+    public void releaseLeases() {
+        reservationWheel.stop();
+        reservations.keySet().forEach(this::release);
+        adGroupLeases.values().forEach(this::releaseLease);
+        campaignLeases.values().forEach(this::releaseLease);
+        advertiserLeases.values().forEach(this::releaseLease);
+    }
+    
+    private void releaseLease(BudgetLease lease) {
+        long amount = lease.drain();
+        if (amount <= 0) {
+            return;
+        }
+        try {
+            budgetStore.release(lease.getKey(), amount);
+        } catch (Exception e) {
+            LOGGER.warn("归还预算额度异常, key: {}, amount: {}", lease.getKey(), amount, e);
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,145 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.Arrays;
+
+/**
+ * 固定容量的候选最小堆，保留分值最高的K个候选下标
+ * 可限制同一广告主在堆中的候选数量：达到上限时新候选只能替换该广告主分值最低的候选；
+ * 容量通常很小，按广告主计数使用线性扫描。按线程复用，不是线程安全的
+ *
+ * @author weiping wang
+ */
+final class CandidateHeap {
+
+    private int[] indexes = new int[8];
+    private float[] scores = new float[8];
+    private int[] advertisers = new int[8];
+    private int size;
+    private int capacity;
+    private int maxPerAdvertiser;
+
+    /**
+     * 清空并设置容量和每个广告主的上限，上限为0表示不限
+     */
+    CandidateHeap reset(int capacity, int maxPerAdvertiser) {
+        if (capacity > indexes.length) {
+            indexes = Arrays.copyOf(indexes, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            advertisers = Arrays.copyOf(advertisers, capacity);
+        }
+        this.size = 0;
+        this.capacity = capacity;
+        this.maxPerAdvertiser = maxPerAdvertiser;
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 候选进入堆所需超过的分值，堆未满时为负无穷；不考虑广告主上限，可作为剪枝的下界
+     */
+    float threshold() {
+        return size < capacity ? Float.NEGATIVE_INFINITY : scores[0];
+    }
+
+    /**
+     * 尝试加入候选，分值相同时保留先加入的候选
+     */
+    void offer(int index, float score, int advertiserId) {
+        if (capacity == 0) {
+            return;
+        }
+        if (maxPerAdvertiser > 0) {
+            int count = 0;
+            int lowest = -1;
+            for (int i = 0; i < size; i++) {
+                if (advertisers[i] == advertiserId) {
+                    count++;
+                    if (lowest < 0 || scores[i] < scores[lowest]) {
+                        lowest = i;
+                    }
+                }
+            }
+            if (count >= maxPerAdvertiser) {
+                if (score > scores[lowest]) {
+                    set(lowest, index, score, advertiserId);
+                    siftDown(lowest);
+                }
+                return;
+            }
+        }
+        if (size < capacity) {
+            set(size, index, score, advertiserId);
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            set(0, index, score, advertiserId);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 按分值从高到低取出全部候选下标，取出后堆为空
+     *
+     * @return 取出的数量
+     */
+    int drainDescending(int[] out) {
+        int count = size;
+        for (int i = count - 1; i >= 0; i--) {
+            out[i] = indexes[0];
+            size--;
+            if (size > 0) {
+                set(0, indexes[size], scores[size], advertisers[size]);
+                siftDown(0);
+            }
+        }
+        return count;
+    }
+
+    private void set(int position, int index, float score, int advertiserId) {
+        indexes[position] = index;
+        scores[position] = score;
+        advertisers[position] = advertiserId;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (scores[parent] <= scores[position]) {
+                break;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int child = (position << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && scores[child + 1] < scores[child]) {
+                child++;
+            }
+            if (scores[position] <= scores[child]) {
+                break;
+            }
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int index = indexes[a];
+        indexes[a] = indexes[b];
+        indexes[b] = index;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int advertiserId = advertisers[a];
+        advertisers[a] = advertisers[b];
+        advertisers[b] = advertiserId;
+    }
+}
@@ -1,24 +1,38 @@
 package top.opendsp.ads.engine.service;
 
-import java.util.List;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import com.alibaba.fastjson2.JSON;
-import com.alibaba.fastjson2.JSONObject;
-
-import io.github.javagossip.opendsp.model.FreqCapping;
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.ads.engine.inventory.FrequencyRule;
+import top.opendsp.ads.engine.inventory.FrequencyWindow;
+import top.opendsp.ads.engine.metrics.Degradation;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.service.FrequencyNearCache.PendingImpressions;
 
 /**
  * 频次控制服务
- * 负责检查用户频次限制
+ * 负责检查用户频次限制；每个用户的频次计数保存在一个Redis Hash（fc:{userId}）中，
+ * field为广告组ID，value为按小时、天、周、月打包的计数（参见{@link FrequencySnapshot}）；
+ * 请求开始时用一次HGETALL读取用户的全部计数，各广告位的频次控制阶段只等待该结果，不再逐个候选访问Redis
  * 
  * @author weiping wang
  */
@@ -27,160 +41,226 @@ public class FrequencyCapService {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(FrequencyCapService.class);
     
+    /**
+     * 广告组的各窗口计数加1，窗口编号与当前窗口不一致时从0开始计数，并刷新记录的过期时间
+     * KEYS[1]: 用户频次记录, ARGV[1]: 广告组ID, ARGV[2-5]: 当前各窗口编号, ARGV[6]: 过期时间（秒）
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "local record = redis.call('HGET', KEYS[1], ARGV[1]) "
+            + "if record and #record ~= 16 then record = nil end "
+            + "local windows = {} "
+            + "for i = 0, 3 do "
+            + "  local window = tonumber(ARGV[i + 2]) "
+            + "  local count = 0 "
+            + "  if record then "
+            + "    local recordWindow, recordCount = struct.unpack('>HH', record, i * 4 + 1) "
+            + "    if recordWindow == window then count = recordCount end "
+            + "  end "
+            + "  if count < 65535 then count = count + 1 end "
+            + "  windows[i + 1] = struct.pack('>HH', window, count) "
+            + "end "
+            + "redis.call('HSET', KEYS[1], ARGV[1], table.concat(windows)) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[6]) "
+            + "return 1", Long.class);
+    
+    private static final CompletableFuture<FrequencySnapshot> EMPTY_PREFETCH =
+        CompletableFuture.completedFuture(FrequencySnapshot.EMPTY);
+    
+    /**
+     * 预取被拒绝，频次控制阶段按降级跳过频次检查
+     */
+    private static final CompletableFuture<FrequencySnapshot> REJECTED_PREFETCH =
+        CompletableFuture.completedFuture(null);
+    
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    @Autowired
+    private FrequencyNearCache nearCache;
+    
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    @Qualifier("frequencyExecutor")
+    private Executor frequencyExecutor;
     
     /**
-     * 根据频次控制过滤广告候选
+     * 预取用户频次，近端缓存命中时直接返回，否则在频次预取线程池提交一次HGETALL读取用户的全部频次计数
      */
-    public List<AdCandidate> filterByFrequency(List<AdCandidate> candidates, String userId) {
-        LOGGER.debug("开始频次控制过滤, 候选数量: {}, userId: {}", candidates.size(), userId);
+    public CompletableFuture<FrequencySnapshot> prefetch(BidContext context) {
+        String userId = context.getUserId();
+        if (!StringUtils.hasText(userId)) {
+            return EMPTY_PREFETCH;
+        }
+        
+        FrequencySnapshot cached = nearCache.get(userId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
         
-        List<AdCandidate> filteredCandidates = new ArrayList<>();
+        try {
+            return CompletableFuture.supplyAsync(() -> loadFrequencies(userId), frequencyExecutor);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("频次预取线程池已满, 跳过频次预取, requestId: {}", context.getRequestId());
+            return REJECTED_PREFETCH;
+        }
+    }
+    
+    /**
+     * 根据频次控制过滤广告候选
+     * 在阶段截止时间前等待预取结果，超时或预取被拒绝则全部候选跳过频次检查直接放行
+     *
+     * @param deadlineNanos 阶段截止时间，System.nanoTime()时间轴
+     */
+    public void filterByFrequency(AdCandidateBatch batch, BidContext context, long deadlineNanos) {
+        String userId = context.getUserId();
+        LOGGER.debug("开始频次控制过滤, 候选数量: {}, userId: {}", batch.size(), userId);
         
         // 如果没有用户ID，跳过频次控制
         if (!StringUtils.hasText(userId)) {
             LOGGER.debug("用户ID为空，跳过频次控制");
-            return candidates;
+            return;
         }
         
-        for (AdCandidate candidate : candidates) {
-            if (checkFrequency(candidate, userId)) {
-                filteredCandidates.add(candidate);
+        FrequencySnapshot frequencies = awaitFrequencies(context, deadlineNanos);
+        if (frequencies == null) {
+            engineMetrics.degrade(Degradation.FREQUENCY_SKIPPED);
+            LOGGER.debug("频次预取超时或被拒绝, 跳过频次控制, requestId: {}", context.getRequestId());
+            return;
+        }
+        
+        PendingImpressions pending = nearCache.pending(userId);
+        long now = System.currentTimeMillis();
+        
+        int retained = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (checkFrequency(batch.get(i), userId, frequencies, pending, now)) {
+                retained = batch.retain(retained, i);
             }
         }
+        batch.truncate(retained);
         
-        LOGGER.debug("频次控制过滤完成, 剩余候选数量: {}", filteredCandidates.size());
-        return filteredCandidates;
+        LOGGER.debug("频次控制过滤完成, 剩余候选数量: {}", retained);
     }
     
     /**
-     * 检查频次控制
+     * 等待频次预取结果，超时或预取被拒绝返回null
      */
-    private boolean checkFrequency(AdCandidate candidate, String userId) {
+    private FrequencySnapshot awaitFrequencies(BidContext context, long deadlineNanos) {
+        CompletableFuture<FrequencySnapshot> prefetch = context.getFrequencyPrefetch();
+        if (prefetch == null) {
+            return FrequencySnapshot.EMPTY;
+        }
         try {
-            Object freqCappingObj = candidate.getTargetingData().get("freqCapping");
-            if (freqCappingObj == null) {
-                // 没有设置频次控制，通过
-                return true;
-            }
-            
-            FreqCapping freqCapping = parseFreqCapping(freqCappingObj);
-            if (freqCapping == null || freqCapping.getFreq() <= 0) {
-                // 频次控制配置无效，通过
-                return true;
-            }
-            
-            // 检查用户对该广告组的展示频次
-            int currentFreq = getUserAdGroupFrequency(userId, candidate.getAdGroupId(), freqCapping.getPeriod());
-            
-            if (currentFreq >= freqCapping.getFreq()) {
-                LOGGER.debug("用户频次超限, userId: {}, adGroupId: {}, 当前频次: {}, 限制频次: {}", 
-                    userId, candidate.getAdGroupId(), currentFreq, freqCapping.getFreq());
-                return false;
-            }
-            
+            return prefetch.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // loadFrequencies内部已处理异常，这里不会发生
+            LOGGER.error("频次预取异常, requestId: {}", context.getRequestId(), e);
+            return FrequencySnapshot.EMPTY;
+        }
+    }
+    
+    /**
+     * 检查频次控制
+     */
+    private boolean checkFrequency(AdCandidate candidate, String userId, FrequencySnapshot frequencies,
+                                   PendingImpressions pending, long now) {
+        FrequencyRule rule = candidate.getAdGroupRecord().getFrequencyRule();
+        if (!rule.isCapped()) {
+            // 没有设置频次控制或配置无效，通过
             return true;
-            
-        } catch (Exception e) {
-            LOGGER.error("频次控制检查异常, adGroupId: {}, userId: {}", candidate.getAdGroupId(), userId, e);
-            return true; // 异常时放行
         }
+        
+        // 检查用户对该广告组各窗口的展示频次，没有记录的广告组按0处理；已出价待展示的预留计入频次
+        long counts = frequencies.counts(candidate.getAdGroupId());
+        if (pending != null) {
+            counts = FrequencyNearCache.withPending(counts, pending.count(candidate.getAdGroupId(), now));
+        }
+        
+        if (!rule.allows(counts)) {
+            LOGGER.debug("用户频次超限, userId: {}, adGroupId: {}, 当日频次: {}, 当周频次: {}", 
+                userId, candidate.getAdGroupId(), FrequencyWindow.DAY.unpack(counts),
+                FrequencyWindow.WEEK.unpack(counts));
+            return false;
+        }
+        
+        return true;
     }
     
     /**
-     * 解析频次控制配置
+     * 记录已出价广告组的待展示预留，只对设置了频次控制的广告组生效
      */
-    private FreqCapping parseFreqCapping(Object freqCappingObj) {
-        try {
-            if (freqCappingObj instanceof FreqCapping) {
-                return (FreqCapping) freqCappingObj;
-            } else if (freqCappingObj instanceof String) {
-                String jsonStr = (String) freqCappingObj;
-                if (StringUtils.hasText(jsonStr)) {
-                    JSONObject jsonObject = JSON.parseObject(jsonStr);
-                    FreqCapping freqCapping = new FreqCapping();
-                    freqCapping.setPeriod(jsonObject.getString("period"));
-                    freqCapping.setFreq(jsonObject.getInteger("freq"));
-                    return freqCapping;
-                }
-            }
-        } catch (Exception e) {
-            LOGGER.error("解析频次控制配置异常: {}", freqCappingObj, e);
+    public void reserve(String bidId, String userId, AdGroupRecord record) {
+        if (StringUtils.hasText(userId) && record.getFrequencyRule().isCapped()) {
+            nearCache.reserve(bidId, userId, record.getId());
         }
-        return null;
     }
     
     /**
-     * 获取用户对广告组的展示频次
+     * 竞价失败时释放出价的待展示预留
      */
-    private int getUserAdGroupFrequency(String userId, Integer adGroupId, String period) {
-        String key = buildFrequencyKey(userId, adGroupId, period);
-        
+    public void release(String bidId) {
+        nearCache.release(bidId);
+    }
+    
+    /**
+     * 读取用户的全部频次计数
+     */
+    private FrequencySnapshot loadFrequencies(String userId) {
+        byte[] key = buildFrequencyKey(userId).getBytes(StandardCharsets.UTF_8);
         try {
-            Object value = redisTemplate.opsForValue().get(key);
-            if (value != null) {
-                return Integer.parseInt(value.toString());
-            }
+            Map<byte[], byte[]> record = stringRedisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key));
+            FrequencySnapshot snapshot = FrequencySnapshot.decode(record,
+                FrequencyWindow.currentWindows(System.currentTimeMillis()));
+            nearCache.put(userId, snapshot);
+            return snapshot;
         } catch (Exception e) {
-            LOGGER.error("获取用户频次异常, key: {}", key, e);
+            // 异常时放行
+            LOGGER.error("获取用户频次异常, userId: {}", userId, e);
+            return FrequencySnapshot.EMPTY;
         }
-        
-        return 0;
     }
     
     /**
-     * 增加用户广告组展示频次
+     * 增加用户广告组展示频次，同时累加小时、天、周、月四个窗口的计数，并释放出价的待展示预留
      */
-    public void incrementUserAdGroupFrequency(String userId, Integer adGroupId, String period) {
-        if (!StringUtils.hasText(userId) || adGroupId == null) {
+    public void incrementUserAdGroupFrequency(String bidId, String userId, int adGroupId) {
+        if (!StringUtils.hasText(userId)) {
             return;
         }
         
-        String key = buildFrequencyKey(userId, adGroupId, period);
+        String key = buildFrequencyKey(userId);
+        long windows = FrequencyWindow.currentWindows(System.currentTimeMillis());
         
         try {
-            redisTemplate.opsForValue().increment(key);
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, Collections.singletonList(key),
+                String.valueOf(adGroupId),
+                String.valueOf(FrequencyWindow.HOUR.unpack(windows)),
+                String.valueOf(FrequencyWindow.DAY.unpack(windows)),
+                String.valueOf(FrequencyWindow.WEEK.unpack(windows)),
+                String.valueOf(FrequencyWindow.MONTH.unpack(windows)),
+                String.valueOf(FrequencyWindow.RECORD_TTL_SECONDS));
             
-            // 设置过期时间
-            long expireTime = getExpireTime(period);
-            if (expireTime > 0) {
-                redisTemplate.expire(key, expireTime, TimeUnit.SECONDS);
-            }
+            nearCache.onImpression(bidId, userId, adGroupId);
             
-            LOGGER.debug("增加用户频次, userId: {}, adGroupId: {}, period: {}", userId, adGroupId, period);
+            LOGGER.debug("增加用户频次, userId: {}, adGroupId: {}", userId, adGroupId);
             
         } catch (Exception e) {
-            LOGGER.error("增加用户频次异常, key: {}", key, e);
+            LOGGER.error("增加用户频次异常, key: {}, adGroupId: {}", key, adGroupId, e);
         }
     }
     
     /**
-     * 构建频次控制Redis Key
+     * 构建用户频次记录Redis Key
      */
-    private String buildFrequencyKey(String userId, Integer adGroupId, String period) {
-        return String.format("freq:%s:%d:%s", userId, adGroupId, period);
-    }
-    
-    /**
-     * 获取过期时间
-     */
-    private long getExpireTime(String period) {
-        if (period == null) {
-            return 0;
-        }
-        
-        switch (period.toLowerCase()) {
-            case "hour":
-                return 3600; // 1小时
-            case "day":
-                return 86400; // 24小时
-            case "week":
-                return 604800; // 7天
-            case "month":
-                return 2592000; // 30天
-            default:
-                return 86400; // 默认24小时
-        }
+    private String buildFrequencyKey(String userId) {
+        return "fc:" + userId;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,250 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import jakarta.annotation.PostConstruct;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.inventory.FrequencyWindow;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+
+/**
+ * 频次近端缓存
+ * 缓存用户最近读取的频次快照，命中时不访问Redis；同时记录本引擎已出价、展示通知尚未到达的广告组（待展示预留），
+ * 频次检查时计入预留数量，避免同一用户的并发请求在计数写入Redis之前被超投；
+ * 预留按出价ID索引，竞价失败或计费时立即释放，胜出后没有计费通知的预留在有效期后过期
+ *
+ * @author weiping wang
+ */
+@Component
+class FrequencyNearCache {
+
+    private static final FrequencyWindow[] WINDOWS = FrequencyWindow.values();
+
+    @Autowired
+    private AdsEngineProperties properties;
+
+    @Autowired
+    private EngineMetrics engineMetrics;
+
+    private Cache<String, CachedSnapshot> snapshots;
+    private Cache<String, PendingImpressions> reservations;
+    
+    /**
+     * 出价ID到用户ID的索引，用于按出价释放预留
+     */
+    private Cache<String, String> reservationUsers;
+
+    private final LongAdder hitAgeMillis = new LongAdder();
+    private final LongAdder hitCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        AdsEngineProperties.Frequency frequency = properties.getFrequency();
+        if (frequency.isNearCacheEnabled()) {
+            snapshots = CacheBuilder.newBuilder()
+                .maximumSize(frequency.getNearCacheMaxSize())
+                .expireAfterWrite(frequency.getNearCacheTtl(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+            engineMetrics.registerGauge("frequency.near-cache.size", snapshots::size);
+            engineMetrics.registerGauge("frequency.near-cache.hit-rate-permille",
+                () -> Math.round(snapshots.stats().hitRate() * 1000));
+            engineMetrics.registerGauge("frequency.near-cache.eviction-count",
+                () -> snapshots.stats().evictionCount());
+            engineMetrics.registerGauge("frequency.near-cache.avg-staleness-ms", () -> {
+                long count = hitCount.sum();
+                return count > 0 ? hitAgeMillis.sum() / count : 0;
+            });
+        }
+        if (frequency.isReservationEnabled()) {
+            reservations = CacheBuilder.newBuilder()
+                .expireAfterAccess(frequency.getReservationTtl(), TimeUnit.MILLISECONDS)
+                .build();
+            reservationUsers = CacheBuilder.newBuilder()
+                .expireAfterWrite(frequency.getReservationTtl(), TimeUnit.MILLISECONDS)
+                .build();
+            engineMetrics.registerGauge("frequency.reservation.users", reservations::size);
+            engineMetrics.registerGauge("frequency.reservation.bids", reservationUsers::size);
+        }
+    }
+
+    /**
+     * 获取缓存的用户频次快照，未启用或未命中时返回null
+     */
+    FrequencySnapshot get(String userId) {
+        if (snapshots == null) {
+            return null;
+        }
+        CachedSnapshot cached = snapshots.getIfPresent(userId);
+        if (cached == null) {
+            return null;
+        }
+        hitAgeMillis.add(System.currentTimeMillis() - cached.loadTime);
+        hitCount.increment();
+        return cached.snapshot;
+    }
+
+    void put(String userId, FrequencySnapshot snapshot) {
+        if (snapshots != null) {
+            snapshots.put(userId, new CachedSnapshot(snapshot, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * 本引擎写入了用户的频次计数，丢弃缓存的快照并释放对应的预留；
+     * 通知没有出价ID或预留已过期时，释放该广告组最早的一个预留
+     */
+    void onImpression(String bidId, String userId, int adGroupId) {
+        if (snapshots != null) {
+            snapshots.invalidate(userId);
+        }
+        if (reservations == null || release(bidId)) {
+            return;
+        }
+        PendingImpressions pending = reservations.getIfPresent(userId);
+        if (pending != null) {
+            pending.releaseAdGroup(adGroupId);
+        }
+    }
+
+    /**
+     * 为已出价的广告组增加一个待展示预留
+     */
+    void reserve(String bidId, String userId, int adGroupId) {
+        if (reservations == null) {
+            return;
+        }
+        long expireTime = System.currentTimeMillis() + properties.getFrequency().getReservationTtl();
+        reservations.asMap().computeIfAbsent(userId, k -> new PendingImpressions()).add(bidId, adGroupId, expireTime);
+        reservationUsers.put(bidId, userId);
+    }
+
+    /**
+     * 释放出价的待展示预留，预留不存在或已过期时返回false
+     */
+    boolean release(String bidId) {
+        if (reservationUsers == null || bidId == null || bidId.isEmpty()) {
+            return false;
+        }
+        String userId = reservationUsers.asMap().remove(bidId);
+        if (userId == null) {
+            return false;
+        }
+        PendingImpressions pending = reservations.getIfPresent(userId);
+        return pending != null && pending.release(bidId);
+    }
+
+    /**
+     * 获取用户的待展示预留，没有预留时返回null
+     */
+    PendingImpressions pending(String userId) {
+        return reservations != null ? reservations.getIfPresent(userId) : null;
+    }
+
+    /**
+     * 将预留数量累加到各窗口的展示次数上
+     */
+    static long withPending(long counts, int pending) {
+        if (pending <= 0) {
+            return counts;
+        }
+        long result = 0L;
+        for (FrequencyWindow window : WINDOWS) {
+            result |= window.pack(Math.min(window.unpack(counts) + pending, 0xFFFF));
+        }
+        return result;
+    }
+
+    private static final class CachedSnapshot {
+
+        private final FrequencySnapshot snapshot;
+        private final long loadTime;
+
+        private CachedSnapshot(FrequencySnapshot snapshot, long loadTime) {
+            this.snapshot = snapshot;
+            this.loadTime = loadTime;
+        }
+    }
+
+    /**
+     * 单个用户的待展示预留，每个预留记录出价ID、广告组ID和过期时间
+     */
+    static final class PendingImpressions {
+
+        private String[] bidIds = new String[4];
+        private int[] adGroupIds = new int[4];
+        private long[] expireTimes = new long[4];
+        private int size;
+
+        synchronized void add(String bidId, int adGroupId, long expireTime) {
+            if (size == adGroupIds.length) {
+                bidIds = Arrays.copyOf(bidIds, size << 1);
+                adGroupIds = Arrays.copyOf(adGroupIds, size << 1);
+                expireTimes = Arrays.copyOf(expireTimes, size << 1);
+            }
+            bidIds[size] = bidId;
+            adGroupIds[size] = adGroupId;
+            expireTimes[size] = expireTime;
+            size++;
+        }
+
+        /**
+         * 释放出价的预留，没有找到时返回false
+         */
+        synchronized boolean release(String bidId) {
+            for (int i = 0; i < size; i++) {
+                if (bidIds[i].equals(bidId)) {
+                    remove(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 释放广告组最早的一个预留
+         */
+        synchronized void releaseAdGroup(int adGroupId) {
+            for (int i = 0; i < size; i++) {
+                if (adGroupIds[i] == adGroupId) {
+                    remove(i);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 统计广告组未过期的预留数量，同时清理已过期的预留
+         */
+        synchronized int count(int adGroupId, long now) {
+            int count = 0;
+            for (int i = size - 1; i >= 0; i--) {
+                if (expireTimes[i] <= now) {
+                    remove(i);
+                } else if (adGroupIds[i] == adGroupId) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void remove(int index) {
+            int moved = size - index - 1;
+            if (moved > 0) {
+                System.arraycopy(bidIds, index + 1, bidIds, index, moved);
+                System.arraycopy(adGroupIds, index + 1, adGroupIds, index, moved);
+                System.arraycopy(expireTimes, index + 1, expireTimes, index, moved);
+            }
+            size--;
+            bidIds[size] = null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package top.opendsp.ads.engine.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+import top.opendsp.ads.engine.inventory.FrequencyWindow;
+
+/**
+ * 用户频次快照
+ * 由用户频次记录（Redis Hash，field为广告组ID，value为16字节）解码得到；
+ * value按HOUR、DAY、WEEK、MONTH顺序存放4个窗口，每个窗口为2字节窗口编号和2字节展示次数（大端），
+ * 解码时窗口编号与当前窗口不一致的计数视为0
+ *
+ * @author weiping wang
+ */
+final class FrequencySnapshot {
+
+    static final FrequencySnapshot EMPTY = new FrequencySnapshot(new int[0], new long[0]);
+
+    static final int RECORD_LENGTH = FrequencyWindow.values().length * 4;
+
+    private static final FrequencyWindow[] WINDOWS = FrequencyWindow.values();
+
+    private final int[] adGroupIds;
+    private final long[] counts;
+
+    /**
+     * @param adGroupIds 升序排列的广告组ID
+     * @param counts 与adGroupIds一一对应、按窗口打包的展示次数
+     */
+    private FrequencySnapshot(int[] adGroupIds, long[] counts) {
+        this.adGroupIds = adGroupIds;
+        this.counts = counts;
+    }
+
+    /**
+     * 解码用户频次记录
+     *
+     * @param windows 当前时刻的窗口编号，参见{@link FrequencyWindow#currentWindows(long)}
+     */
+    static FrequencySnapshot decode(Map<byte[], byte[]> record, long windows) {
+        if (record == null || record.isEmpty()) {
+            return EMPTY;
+        }
+        // 高32位为广告组ID，低32位为解码结果的下标，排序后按广告组ID有序
+        long[] order = new long[record.size()];
+        long[] decoded = new long[record.size()];
+        int size = 0;
+        for (Map.Entry<byte[], byte[]> entry : record.entrySet()) {
+            byte[] value = entry.getValue();
+            if (value == null || value.length != RECORD_LENGTH) {
+                continue;
+            }
+            int adGroupId = parseAdGroupId(entry.getKey());
+            if (adGroupId < 0) {
+                continue;
+            }
+            decoded[size] = decodeCounts(value, windows);
+            order[size] = ((long) adGroupId << 32) | size;
+            size++;
+        }
+        Arrays.sort(order, 0, size);
+
+        int[] adGroupIds = new int[size];
+        long[] counts = new long[size];
+        for (int i = 0; i < size; i++) {
+            adGroupIds[i] = (int) (order[i] >>> 32);
+            counts[i] = decoded[(int) order[i]];
+        }
+        return new FrequencySnapshot(adGroupIds, counts);
+    }
+
+    /**
+     * 获取用户对广告组按窗口打包的展示次数，没有记录的广告组返回0
+     */
+    long counts(int adGroupId) {
+        int index = Arrays.binarySearch(adGroupIds, adGroupId);
+        return index >= 0 ? counts[index] : 0L;
+    }
+
+    /**
+     * 解析字段名中的广告组ID，字段名不是非负整数时返回-1，由调用方跳过该字段
+     */
+    private static int parseAdGroupId(byte[] field) {
+        if (field == null || field.length == 0 || field.length > 10) {
+            return -1;
+        }
+        long id = 0;
+        for (byte b : field) {
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+            id = id * 10 + (b - '0');
+        }
+        return id <= Integer.MAX_VALUE ? (int) id : -1;
+    }
+
+    private static long decodeCounts(byte[] value, long windows) {
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        long counts = 0L;
+        for (FrequencyWindow window : WINDOWS) {
+            int windowIndex = buffer.getShort() & 0xFFFF;
+            int count = buffer.getShort() & 0xFFFF;
+            if (windowIndex == window.unpack(windows)) {
+                counts |= window.pack(count);
+            }
+        }
+        return counts;
+    }
+}
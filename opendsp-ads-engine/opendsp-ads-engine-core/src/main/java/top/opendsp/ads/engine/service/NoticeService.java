@@ -0,0 +1,137 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.google.common.base.Strings;
+
+import jakarta.annotation.PostConstruct;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.proto.rtb.OpenDspNotice.Notice;
+
+/**
+ * 竞价结果通知服务
+ * 将rtb和事件服务转发的通知直接应用到引擎内存状态：胜出时按成交价结算出价预留，竞价失败时退回预算预留并释放频次预留，
+ * 计费时计入用户频次；胜出和竞价失败同时追加写入竞价结果事件并更新一价出价胜率曲线；计费和点击通知同时用于点击率在线学习的样本标注
+ *
+ * @author weiping wang
+ */
+@Service
+public class NoticeService {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NoticeService.class);
+    
+    @Autowired
+    private BudgetService budgetService;
+    
+    @Autowired
+    private FrequencyCapService frequencyCapService;
+    
+    @Autowired
+    private BidLogService bidLogService;
+    
+    @Autowired
+    private OnlineLearningService onlineLearningService;
+    
+    @Autowired
+    private BidShadingService bidShadingService;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder billings = new LongAdder();
+    private final LongAdder clicks = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    
+    @PostConstruct
+    public void init() {
+        engineMetrics.registerGauge("notice.win", wins::sum);
+        engineMetrics.registerGauge("notice.loss", losses::sum);
+        engineMetrics.registerGauge("notice.billing", billings::sum);
+        engineMetrics.registerGauge("notice.click", clicks::sum);
+        engineMetrics.registerGauge("notice.rejected", rejected::sum);
+    }
+    
+    /**
+     * 应用一条通知，缺少必要字段或处理异常时返回false
+     */
+    public boolean apply(Notice notice) {
+        try {
+            switch (notice.getType()) {
+                case WIN_NOTICE:
+                    return applyWin(notice);
+                case LOSS_NOTICE:
+                    return applyLoss(notice);
+                case BILLING_NOTICE:
+                    return applyBilling(notice);
+                case CLICK_NOTICE:
+                    return applyClick(notice);
+                default:
+                    return reject(notice);
+            }
+        } catch (Exception e) {
+            LOGGER.error("处理竞价结果通知异常, bidId: {}, type: {}", notice.getBidId(), notice.getType(), e);
+            rejected.increment();
+            return false;
+        }
+    }
+    
+    private boolean applyWin(Notice notice) {
+        if (Strings.isNullOrEmpty(notice.getBidId()) || notice.getAdGroupId() == 0) {
+            return reject(notice);
+        }
+        // 千次展示成交价（分）在数值上等于单次展示的花费（千分之一分）
+        budgetService.settle(notice.getBidId(), notice.getAdvertiserId(), notice.getCampaignId(),
+            notice.getAdGroupId(), Math.round(notice.getPrice()));
+        bidShadingService.onWin(notice.getBidId());
+        bidLogService.logWin(notice);
+        wins.increment();
+        return true;
+    }
+    
+    private boolean applyLoss(Notice notice) {
+        if (Strings.isNullOrEmpty(notice.getBidId())) {
+            return reject(notice);
+        }
+        budgetService.release(notice.getBidId());
+        frequencyCapService.release(notice.getBidId());
+        bidShadingService.onLoss(notice.getBidId());
+        bidLogService.logLoss(notice);
+        losses.increment();
+        return true;
+    }
+    
+    private boolean applyBilling(Notice notice) {
+        if (notice.getAdGroupId() == 0) {
+            return reject(notice);
+        }
+        frequencyCapService.incrementUserAdGroupFrequency(notice.getBidId(), notice.getUserId(),
+            notice.getAdGroupId());
+        if (!Strings.isNullOrEmpty(notice.getBidId())) {
+            onlineLearningService.onImpression(notice.getBidId());
+        }
+        billings.increment();
+        return true;
+    }
+    
+    private boolean applyClick(Notice notice) {
+        if (Strings.isNullOrEmpty(notice.getBidId())) {
+            return reject(notice);
+        }
+        onlineLearningService.onClick(notice.getBidId());
+        clicks.increment();
+        return true;
+    }
+    
+    private boolean reject(Notice notice) {
+        LOGGER.warn("竞价结果通知缺少必要字段, bidId: {}, type: {}", notice.getBidId(), notice.getType());
+        rejected.increment();
+        return false;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,231 @@
+package top.opendsp.ads.engine.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.predict.FtrlLearner;
+import top.opendsp.ads.engine.predict.OnlineWeights;
+import top.opendsp.ads.engine.predict.TrainingExample;
+import top.opendsp.ads.engine.util.HashedTimingWheel;
+import top.opendsp.ads.engine.util.HashedTimingWheel.Timeout;
+
+/**
+ * 点击率在线学习服务
+ * 返回出价时记录候选的特征，计费（展示）通知到达后开始等待点击：点击窗口内收到点击通知为正样本，
+ * 窗口到期仍未点击为负样本；未展示的出价超时后丢弃。样本由单个学习线程按FTRL-Proximal更新权重，
+ * 定期复制权重发布快照，竞价线程读取快照修正离线模型的点击率
+ * 
+ * @author weiping wang
+ */
+@Service
+public class OnlineLearningService {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(OnlineLearningService.class);
+    
+    /**
+     * 停止时等待学习线程退出的最长时间，单位: 毫秒
+     */
+    private static final long SHUTDOWN_TIMEOUT = 5000;
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    /**
+     * 等待展示的出价，按出价ID索引
+     */
+    private final ConcurrentHashMap<String, Timeout<TrainingExample>> awaitingImpression = new ConcurrentHashMap<>();
+    
+    /**
+     * 已展示、等待点击的出价，按出价ID索引
+     */
+    private final ConcurrentHashMap<String, Timeout<TrainingExample>> awaitingClick = new ConcurrentHashMap<>();
+    
+    private final LongAdder dropped = new LongAdder();
+    
+    private volatile OnlineWeights weights = OnlineWeights.empty();
+    
+    private HashedTimingWheel<TrainingExample> impressionWheel;
+    private HashedTimingWheel<TrainingExample> clickWheel;
+    private ArrayBlockingQueue<TrainingExample> examples;
+    private FtrlLearner learner;
+    private Thread learnerThread;
+    private volatile boolean running;
+    
+    @PostConstruct
+    public void init() {
+        AdsEngineProperties.OnlineLearning config = properties.getOnlineLearning();
+        if (!config.isEnabled()) {
+            return;
+        }
+        
+        impressionWheel = new HashedTimingWheel<>(config.getTickDuration(), TimeUnit.MILLISECONDS,
+            (int) (config.getImpressionTimeout() / config.getTickDuration()),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-online-impression").setDaemon(true).build(),
+            this::expireImpression);
+        clickWheel = new HashedTimingWheel<>(config.getTickDuration(), TimeUnit.MILLISECONDS,
+            (int) (config.getClickWindow() / config.getTickDuration()),
+            new ThreadFactoryBuilder().setNameFormat("opendsp-online-click").setDaemon(true).build(),
+            this::expireClick);
+        examples = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        learner = new FtrlLearner(config.getHashBits(), (float) config.getAlpha(), (float) config.getBeta(),
+            (float) config.getL1(), (float) config.getL2());
+        
+        running = true;
+        learnerThread = new ThreadFactoryBuilder().setNameFormat("opendsp-online-learner").setDaemon(true).build()
+            .newThread(this::run);
+        learnerThread.start();
+        
+        engineMetrics.registerGauge("online.awaiting-impression", awaitingImpression::size);
+        engineMetrics.registerGauge("online.awaiting-click", awaitingClick::size);
+        engineMetrics.registerGauge("online.queue-depth", () -> examples.size());
+        engineMetrics.registerGauge("online.updates", () -> weights.getUpdates());
+        engineMetrics.registerGauge("online.dropped", dropped::sum);
+    }
+    
+    public boolean isEnabled() {
+        return learner != null;
+    }
+    
+    /**
+     * 当前发布的在线权重快照
+     */
+    public OnlineWeights current() {
+        return weights;
+    }
+    
+    /**
+     * 记录返回出价的特征，等待展示通知；等待数量超过上限时不记录
+     *
+     * @param keys 出价时的特征键，只读取前size个
+     * @param baseLogit 出价时离线模型的点击率对数几率
+     */
+    public void capture(String bidId, long[] keys, int size, float baseLogit) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (awaitingImpression.size() >= properties.getOnlineLearning().getMaxPending()) {
+            dropped.increment();
+            return;
+        }
+        TrainingExample example = new TrainingExample(bidId, keys, size, baseLogit);
+        awaitingImpression.put(bidId, impressionWheel.schedule(example,
+            properties.getOnlineLearning().getImpressionTimeout(), TimeUnit.MILLISECONDS));
+    }
+    
+    /**
+     * 出价已展示，开始等待点击
+     */
+    public void onImpression(String bidId) {
+        if (!isEnabled()) {
+            return;
+        }
+        TrainingExample example = remove(awaitingImpression, bidId);
+        if (example != null) {
+            awaitingClick.put(bidId, clickWheel.schedule(example,
+                properties.getOnlineLearning().getClickWindow(), TimeUnit.MILLISECONDS));
+        }
+    }
+    
+    /**
+     * 出价被点击，作为正样本训练；计费通知晚于点击通知到达时同样作为正样本
+     */
+    public void onClick(String bidId) {
+        if (!isEnabled()) {
+            return;
+        }
+        TrainingExample example = remove(awaitingClick, bidId);
+        if (example == null) {
+            example = remove(awaitingImpression, bidId);
+        }
+        if (example != null) {
+            example.markClicked();
+            offer(example);
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = false;
+        impressionWheel.stop();
+        clickWheel.stop();
+        learnerThread.interrupt();
+        try {
+            learnerThread.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 取消样本的超时任务并返回样本，已超时或不存在时返回null
+     */
+    private static TrainingExample remove(ConcurrentHashMap<String, Timeout<TrainingExample>> examples,
+            String bidId) {
+        Timeout<TrainingExample> timeout = examples.remove(bidId);
+        if (timeout == null || !timeout.cancel()) {
+            return null;
+        }
+        return timeout.getTask();
+    }
+    
+    private void expireImpression(TrainingExample example) {
+        awaitingImpression.remove(example.getBidId());
+    }
+    
+    private void expireClick(TrainingExample example) {
+        awaitingClick.remove(example.getBidId());
+        offer(example);
+    }
+    
+    private void offer(TrainingExample example) {
+        if (!examples.offer(example)) {
+            dropped.increment();
+        }
+    }
+    
+    private void run() {
+        long publishIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getOnlineLearning().getPublishInterval());
+        long lastPublish = System.nanoTime();
+        long publishedUpdates = 0;
+        
+        while (running) {
+            try {
+                TrainingExample example = examples.poll(publishIntervalNanos, TimeUnit.NANOSECONDS);
+                if (example != null) {
+                    learner.train(example.getKeys(), example.getKeys().length, example.getBaseLogit(),
+                        example.isClicked());
+                }
+                long now = System.nanoTime();
+                if (now - lastPublish >= publishIntervalNanos && learner.getUpdates() != publishedUpdates) {
+                    weights = learner.snapshot();
+                    publishedUpdates = learner.getUpdates();
+                    lastPublish = now;
+                    LOGGER.debug("发布在线权重快照, 累计样本数: {}", publishedUpdates);
+                }
+            } catch (InterruptedException e) {
+                // 停止时中断等待中的poll，由循环条件退出
+            } catch (Exception e) {
+                LOGGER.error("在线学习异常", e);
+            }
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,182 @@
+package top.opendsp.ads.engine.service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.ads.engine.inventory.AdInventory;
+import top.opendsp.ads.engine.inventory.PacingCurve;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.util.LongObjectHashMap;
+
+/**
+ * 预算平滑服务
+ * 按广告组的日内花费目标曲线做概率节流：投放时间段外的广告组不参与竞价；匀速投放的广告组定期比较
+ * 预算进度和目标进度，超前时降低参与竞价的概率，落后时提高，使花费跟随目标曲线；
+ * 节流在广告匹配之后、定向之前进行，被节流的广告组不再进入后续阶段
+ * 
+ * @author weiping wang
+ */
+@Service
+public class PacingService {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(PacingService.class);
+    
+    @Autowired
+    private AdInventoryService adInventoryService;
+    
+    @Autowired
+    private BudgetService budgetService;
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    /**
+     * 需要节流的广告组及其参与竞价的概率，每个控制周期整体替换，未包含的广告组不节流
+     */
+    private volatile LongObjectHashMap<PacingState> states = new LongObjectHashMap<>();
+    
+    private final LongAdder throttled = new LongAdder();
+    
+    @PostConstruct
+    public void init() {
+        engineMetrics.registerGauge("pacing.ad-groups", () -> states.size());
+        engineMetrics.registerGauge("pacing.throttled-count", throttled::sum);
+    }
+    
+    /**
+     * 按参与竞价的概率过滤广告候选，在批次内原地压缩
+     */
+    public void filterByPacing(AdCandidateBatch batch) {
+        if (!properties.getPacing().isEnabled()) {
+            return;
+        }
+        LongObjectHashMap<PacingState> current = states;
+        if (current.isEmpty()) {
+            return;
+        }
+        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int retained = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            PacingState state = current.get(batch.get(i).getAdGroupId());
+            if (state == null || state.admit(random)) {
+                retained = batch.retain(retained, i);
+            }
+        }
+        
+        int dropped = batch.size() - retained;
+        if (dropped > 0) {
+            throttled.add(dropped);
+        }
+        batch.truncate(retained);
+        LOGGER.debug("预算平滑过滤完成, 节流数量: {}, 剩余候选数量: {}", dropped, retained);
+    }
+    
+    /**
+     * 按当前时刻和预算进度调整各广告组参与竞价的概率
+     * 预算进度以当天预算池已领取的额度估计，包含各引擎尚未用完的租约额度，估计值偏高时节流偏保守
+     */
+    @Scheduled(fixedDelayString = "${opendsp.engine.pacing.interval:10000}",
+            initialDelayString = "${opendsp.engine.pacing.interval:10000}")
+    public void adjust() {
+        AdsEngineProperties.Pacing config = properties.getPacing();
+        if (!config.isEnabled()) {
+            return;
+        }
+        
+        try {
+            AdInventory inventory = adInventoryService.current();
+            LocalTime now = LocalTime.now();
+            int hour = now.getHour();
+            
+            LongObjectHashMap<PacingState> previous = states;
+            LongObjectHashMap<PacingState> next = new LongObjectHashMap<>();
+            List<AdGroupRecord> uniformAdGroups = new ArrayList<>();
+            List<PacingState> uniformStates = new ArrayList<>();
+            for (AdGroupRecord record : inventory.getAdGroups()) {
+                PacingCurve curve = record.getPacingCurve();
+                if (curve == PacingCurve.UNPACED) {
+                    continue;
+                }
+                PacingState state = previous.getOrDefault(record.getId(), null);
+                if (state == null) {
+                    state = new PacingState();
+                }
+                if (!curve.isActive(hour)) {
+                    state.passRate = 0f;
+                } else if (!curve.isUniform()) {
+                    state.passRate = 1f;
+                } else {
+                    uniformAdGroups.add(record);
+                    uniformStates.add(state);
+                }
+                next.put(record.getId(), state);
+            }
+            
+            if (!uniformAdGroups.isEmpty()) {
+                int secondOfDay = now.toSecondOfDay();
+                double[] fractions = budgetService.getClaimedFractions(uniformAdGroups);
+                for (int i = 0; i < fractions.length; i++) {
+                    double target = uniformAdGroups.get(i).getPacingCurve().targetFraction(secondOfDay);
+                    uniformStates.get(i).update(fractions[i], target, config);
+                }
+            }
+            
+            states = next;
+            LOGGER.debug("预算平滑调整完成, 节流广告组数量: {}, 匀速投放广告组数量: {}",
+                next.size(), uniformAdGroups.size());
+            
+        } catch (Exception e) {
+            LOGGER.error("预算平滑调整异常", e);
+        }
+    }
+    
+    /**
+     * 广告组的节流状态
+     */
+    private static final class PacingState {
+        
+        /**
+         * 当前参与竞价的概率，投放时间段外为0
+         */
+        private volatile float passRate = 1f;
+        
+        /**
+         * 匀速投放的控制概率，离开投放时间段时保留，重新进入时继续使用
+         */
+        private float controlRate = 1f;
+        
+        boolean admit(ThreadLocalRandom random) {
+            float rate = passRate;
+            return rate >= 1f || (rate > 0f && random.nextFloat() < rate);
+        }
+        
+        /**
+         * 预算进度超前目标超过容差时按比例降低概率，落后时按比例提高
+         */
+        void update(double actual, double target, AdsEngineProperties.Pacing config) {
+            float step = (float) config.getAdjustStep();
+            if (actual > target + config.getTolerance()) {
+                controlRate = Math.max((float) config.getMinPassRate(), controlRate * (1f - step));
+            } else if (actual < target) {
+                controlRate = Math.min(1f, controlRate * (1f + step));
+            }
+            passRate = controlRate;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package top.opendsp.ads.engine.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.metrics.EngineMetrics;
+import top.opendsp.ads.engine.predict.PredictionModel;
+import top.opendsp.ads.engine.predict.Predictor;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
+import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
+
+/**
+ * 点击率/转化率预估服务
+ * 从本地模型目录加载点击率和转化率模型，定期检查模型文件，文件变化后在后台加载新模型并整体替换引用，
+ * 竞价线程每个广告位读取一次当前模型，替换过程不阻塞竞价；模型文件不存在或加载失败时使用先验概率。
+ * 启用在线学习时点击率为离线模型与在线权重的对数几率之和
+ * 
+ * @author weiping wang
+ */
+@Service
+public class PredictionService {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(PredictionService.class);
+    
+    private static final ThreadLocal<Predictor> PREDICTOR = ThreadLocal.withInitial(Predictor::new);
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    @Autowired
+    private EngineMetrics engineMetrics;
+    
+    @Autowired
+    private OnlineLearningService onlineLearningService;
+    
+    private volatile ModelSlot ctrModel;
+    
+    private volatile ModelSlot cvrModel;
+    
+    /**
+     * 当前时区相对UTC的偏移，单位: 秒，随模型检查定期刷新
+     */
+    private volatile int zoneOffsetSeconds;
+    
+    @PostConstruct
+    public void init() {
+        AdsEngineProperties.Prediction config = properties.getPrediction();
+        ctrModel = ModelSlot.fallback(config.getDefaultCtr());
+        cvrModel = ModelSlot.fallback(config.getDefaultCvr());
+        reload();
+        
+        engineMetrics.registerGauge("prediction.ctr-model.version", () -> ctrModel.model.getVersion());
+        engineMetrics.registerGauge("prediction.cvr-model.version", () -> cvrModel.model.getVersion());
+    }
+    
+    /**
+     * 加载广告位请求并返回当前线程的预估器，之后按需逐个预估候选
+     */
+    public Predictor prepare(BidRequest request, Imp imp) {
+        return PREDICTOR.get().load(request, imp, currentHour(), ctrModel.model, cvrModel.model,
+            onlineLearningService.current());
+    }
+    
+    /**
+     * 计算出价后保存候选的特征和离线模型的点击率对数几率，未启用在线学习时不保存
+     */
+    void retainFeatures(AdCandidate candidate, Predictor predictor) {
+        if (onlineLearningService.isEnabled()) {
+            candidate.retainFeatures(predictor.getFeatures(), predictor.getBaseLogit());
+        }
+    }
+    
+    /**
+     * 记录返回出价的候选特征和离线模型的点击率对数几率，作为在线学习的待标注样本；特征在计算出价时已保存
+     */
+    public void capture(String bidId, AdCandidate candidate) {
+        if (!onlineLearningService.isEnabled() || candidate.getFeatureCount() == 0) {
+            return;
+        }
+        onlineLearningService.capture(bidId, candidate.getFeatureKeys(), candidate.getFeatureCount(),
+            candidate.getBaseLogit());
+    }
+    
+    /**
+     * 检查模型文件，文件修改时间或长度变化后加载新模型
+     */
+    @Scheduled(fixedDelayString = "${opendsp.engine.prediction.reload-interval:60000}",
+            initialDelayString = "${opendsp.engine.prediction.reload-interval:60000}")
+    public void reload() {
+        zoneOffsetSeconds = ZoneId.systemDefault().getRules().getOffset(Instant.now()).getTotalSeconds();
+        
+        AdsEngineProperties.Prediction config = properties.getPrediction();
+        Path dir = Paths.get(config.getModelDir());
+        ctrModel = reload(ctrModel, dir.resolve(config.getCtrModelFile()), "点击率");
+        cvrModel = reload(cvrModel, dir.resolve(config.getCvrModelFile()), "转化率");
+    }
+    
+    private ModelSlot reload(ModelSlot current, Path file, String name) {
+        if (!Files.isRegularFile(file)) {
+            return current;
+        }
+        long lastModified;
+        long size;
+        try {
+            lastModified = Files.getLastModifiedTime(file).toMillis();
+            size = Files.size(file);
+        } catch (IOException e) {
+            LOGGER.error("读取{}模型文件状态失败, file: {}", name, file, e);
+            return current;
+        }
+        if (lastModified == current.lastModified && size == current.size) {
+            return current;
+        }
+        
+        try {
+            long startTime = System.nanoTime();
+            PredictionModel model = PredictionModel.load(file);
+            LOGGER.info("{}模型加载完成, file: {}, version: {}, 耗时: {}ms", name, file, model.getVersion(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            return new ModelSlot(model, lastModified, size);
+        } catch (IOException e) {
+            // 加载失败时继续使用当前模型，记录文件状态，文件再次变化前不重复加载
+            LOGGER.error("{}模型加载失败, 继续使用当前模型, file: {}", name, file, e);
+            return new ModelSlot(current.model, lastModified, size);
+        }
+    }
+    
+    private int currentHour() {
+        long seconds = System.currentTimeMillis() / 1000 + zoneOffsetSeconds;
+        return (int) Math.floorMod(seconds / 3600, 24L);
+    }
+    
+    /**
+     * 当前模型及其文件状态
+     */
+    private static final class ModelSlot {
+        
+        private final PredictionModel model;
+        private final long lastModified;
+        private final long size;
+        
+        private ModelSlot(PredictionModel model, long lastModified, long size) {
+            this.model = model;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+        
+        static ModelSlot fallback(double probability) {
+            return new ModelSlot(PredictionModel.constant(probability), -1, -1);
+        }
+    }
+} 
\ No newline at end of file
@@ -1,18 +1,21 @@
 package top.opendsp.ads.engine.service;
 
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import top.opendsp.ads.engine.config.AdsEngineProperties;
+import top.opendsp.ads.engine.inventory.AdGroupRecord;
+import top.opendsp.ads.engine.inventory.TargetingDimension;
+import top.opendsp.ads.engine.predict.Predictor;
 import top.opendsp.proto.rtb.OpenDspRtb.BidRequest;
 import top.opendsp.proto.rtb.OpenDspRtb.BidRequest.Imp;
 
 /**
  * 出价服务
- * 负责计算广告的出价
+ * 负责计算广告的出价，点击率和转化率由{@link PredictionService}的预估器逐个预估；
+ * 同时提供不需要预估的出价上界，供内部竞价剪枝
  * 
  * @author weiping wang
  */
@@ -22,60 +25,116 @@ public class PricingService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PricingService.class);
     
     /**
-     * 计算广告候选的出价
+     * 质量分数上限
+     */
+    private static final float MAX_QUALITY_SCORE = 1.5f;
+    
+    /**
+     * oCPC转化率调整系数的范围
      */
-    public List<AdCandidate> calculateBidPrices(List<AdCandidate> candidates, BidRequest request, Imp imp) {
-        LOGGER.debug("开始计算出价, 候选数量: {}", candidates.size());
+    private static final float MIN_CVR_FACTOR = 0.5f;
+    
+    private static final float MAX_CVR_FACTOR = 1.5f;
+    
+    @Autowired
+    private PerformanceStatsService performanceStatsService;
+    
+    @Autowired
+    private AdsEngineProperties properties;
+    
+    /**
+     * 计算候选的出价上界，只依赖广告组配置：点击率和转化率取预估值的上限，质量分数取最大值；
+     * 上界低于广告位底价或基础出价无效时返回0
+     */
+    public float calculateUpperBound(AdCandidate candidate, Imp imp) {
+        AdGroupRecord record = candidate.getAdGroupRecord();
+        int baseBidPrice = record.getBidPrice();
+        if (baseBidPrice <= 0) {
+            return 0f;
+        }
         
-        for (AdCandidate candidate : candidates) {
-            float bidPrice = calculateBidPrice(candidate, request, imp);
-            candidate.setBidPrice(bidPrice);
-            
-            LOGGER.debug("计算出价完成, creativeId: {}, bidPrice: {}", candidate.getCreativeId(), bidPrice);
+        AdsEngineProperties.Prediction prediction = properties.getPrediction();
+        float maxCtr = (float) prediction.getMaxCtr();
+        float maxCvr = (float) prediction.getMaxCvr();
+        float upperBound;
+        switch (record.getBiddingMethod()) {
+            case 1: // CPM
+                upperBound = baseBidPrice * MAX_QUALITY_SCORE;
+                break;
+            case 2: // CPC
+                upperBound = baseBidPrice * maxCtr * 1000;
+                break;
+            case 3: // CPA
+            case 4: // oCPM
+                upperBound = baseBidPrice * maxCtr * maxCvr * 1000;
+                break;
+            case 5: // oCPC
+                upperBound = baseBidPrice * maxCtr * MAX_CVR_FACTOR * 1000;
+                break;
+            default:
+                upperBound = baseBidPrice;
         }
         
-        return candidates;
+        if (imp.hasBidfloor() && upperBound < imp.getBidfloor()) {
+            return 0f;
+        }
+        return upperBound;
+    }
+    
+    /**
+     * 预估候选的点击率和转化率并计算出价，出价为0表示无效或低于底价；预估值限制在上界计算使用的上限内
+     */
+    public float calculateBidPrice(AdCandidate candidate, Predictor predictor, BidRequest request, Imp imp) {
+        predictor.predict(candidate.getAdGroupRecord(), candidate.getCreativeId());
+        AdsEngineProperties.Prediction prediction = properties.getPrediction();
+        float ctr = Math.min(predictor.getCtr(), (float) prediction.getMaxCtr());
+        float cvr = Math.min(predictor.getCvr(), (float) prediction.getMaxCvr());
+        float bidPrice = calculateBidPrice(candidate, request, imp, ctr, cvr);
+        
+        LOGGER.debug("计算出价完成, creativeId: {}, bidPrice: {}", candidate.getCreativeId(), bidPrice);
+        return bidPrice;
     }
     
     /**
      * 计算单个广告候选的出价
+     *
+     * @param ctr 预估点击率（点击/展示）
+     * @param cvr 预估转化率（转化/点击）
      */
-    private float calculateBidPrice(AdCandidate candidate, BidRequest request, Imp imp) {
+    private float calculateBidPrice(AdCandidate candidate, BidRequest request, Imp imp, float ctr, float cvr) {
         try {
             // 获取基础出价
-            Long baseBidPrice = (Long) candidate.getTargetingData().get("bidPrice");
-            if (baseBidPrice == null || baseBidPrice <= 0) {
+            AdGroupRecord record = candidate.getAdGroupRecord();
+            int baseBidPrice = record.getBidPrice();
+            if (baseBidPrice <= 0) {
                 LOGGER.warn("基础出价为空或无效, creativeId: {}", candidate.getCreativeId());
                 return 0f;
             }
             
-            // 获取出价方式
-            Integer biddingMethod = (Integer) candidate.getTargetingData().get("biddingMethod");
-            if (biddingMethod == null) {
-                biddingMethod = 1; // 默认CPM
-            }
+            // 获取出价方式，未设置时默认CPM
+            int biddingMethod = record.getBiddingMethod();
             
-            float finalBidPrice = baseBidPrice.floatValue();
+            float finalBidPrice = baseBidPrice;
             
             // 根据出价方式调整出价
             switch (biddingMethod) {
                 case 1: // CPM
-                    finalBidPrice = calculateCpmBid(candidate, request, imp, baseBidPrice);
+                    finalBidPrice = calculateCpmBid(candidate, request, baseBidPrice, ctr, cvr);
                     break;
                 case 2: // CPC
-                    finalBidPrice = calculateCpcBid(candidate, request, imp, baseBidPrice);
+                    finalBidPrice = calculateCpcBid(candidate, request, baseBidPrice, ctr, cvr);
                     break;
                 case 3: // CPA
-                    finalBidPrice = calculateCpaBid(candidate, request, imp, baseBidPrice);
+                    finalBidPrice = calculateCpaBid(candidate, request, baseBidPrice, ctr, cvr);
                     break;
                 case 4: // oCPM
-                    finalBidPrice = calculateOcpmBid(candidate, request, imp, baseBidPrice);
+                    finalBidPrice = calculateOcpmBid(candidate, request, baseBidPrice, ctr, cvr);
                     break;
                 case 5: // oCPC
-                    finalBidPrice = calculateOcpcBid(candidate, request, imp, baseBidPrice);
+                    finalBidPrice = calculateOcpcBid(candidate, request, baseBidPrice, ctr, cvr);
                     break;
                 default:
-                    finalBidPrice = baseBidPrice.floatValue();
+                    finalBidPrice = baseBidPrice;
             }
             
             // 检查广告位底价
@@ -96,14 +155,10 @@ public class PricingService {
     /**
      * 计算CPM出价
      */
-    private float calculateCpmBid(AdCandidate candidate, BidRequest request, Imp imp, Long baseBidPrice) {
+    private float calculateCpmBid(AdCandidate candidate, BidRequest request, int baseBidPrice, float ctr, float cvr) {
         // CPM出价策略：基于基础出价和质量分数
-        float qualityScore = calculateQualityScore(candidate, request, imp);
-        float adjustedBid = baseBidPrice.floatValue() * qualityScore;
-        
-        // 添加一定的随机性，避免出价过于集中
-        float randomFactor = 0.9f + ThreadLocalRandom.current().nextFloat() * 0.2f; // 0.9 - 1.1
-        adjustedBid *= randomFactor;
+        float qualityScore = calculateQualityScore(candidate, request);
+        float adjustedBid = (float) baseBidPrice * qualityScore;
         
         LOGGER.debug("CPM出价计算, creativeId: {}, baseBid: {}, qualityScore: {}, finalBid: {}", 
             candidate.getCreativeId(), baseBidPrice, qualityScore, adjustedBid);
@@ -114,13 +169,12 @@ public class PricingService {
     /**
      * 计算CPC出价
      */
-    private float calculateCpcBid(AdCandidate candidate, BidRequest request, Imp imp, Long baseBidPrice) {
-        // CPC出价策略：基于预估点击率
-        float estimatedCtr = estimateClickThroughRate(candidate, request, imp);
-        float adjustedBid = baseBidPrice.floatValue() * estimatedCtr * 1000; // 转换为CPM
+    private float calculateCpcBid(AdCandidate candidate, BidRequest request, int baseBidPrice, float ctr, float cvr) {
+        // CPC出价策略：点击出价 × 预估点击率
+        float adjustedBid = (float) baseBidPrice * ctr * 1000; // 转换为CPM
         
         LOGGER.debug("CPC出价计算, creativeId: {}, baseBid: {}, estimatedCtr: {}, finalBid: {}", 
-            candidate.getCreativeId(), baseBidPrice, estimatedCtr, adjustedBid);
+            candidate.getCreativeId(), baseBidPrice, ctr, adjustedBid);
         
         return adjustedBid;
     }
@@ -128,13 +182,12 @@ public class PricingService {
     /**
      * 计算CPA出价
      */
-    private float calculateCpaBid(AdCandidate candidate, BidRequest request, Imp imp, Long baseBidPrice) {
-        // CPA出价策略：基于预估转化率
-        float estimatedCvr = estimateConversionRate(candidate, request, imp);
-        float adjustedBid = baseBidPrice.floatValue() * estimatedCvr * 1000; // 转换为CPM
+    private float calculateCpaBid(AdCandidate candidate, BidRequest request, int baseBidPrice, float ctr, float cvr) {
+        // CPA出价策略：转化出价 × 预估点击率 × 预估转化率
+        float adjustedBid = (float) baseBidPrice * ctr * cvr * 1000; // 转换为CPM
         
-        LOGGER.debug("CPA出价计算, creativeId: {}, baseBid: {}, estimatedCvr: {}, finalBid: {}", 
-            candidate.getCreativeId(), baseBidPrice, estimatedCvr, adjustedBid);
+        LOGGER.debug("CPA出价计算, creativeId: {}, baseBid: {}, estimatedCtr: {}, estimatedCvr: {}, finalBid: {}", 
+            candidate.getCreativeId(), baseBidPrice, ctr, cvr, adjustedBid);
         
         return adjustedBid;
     }
@@ -142,13 +195,12 @@ public class PricingService {
     /**
      * 计算oCPM出价
      */
-    private float calculateOcpmBid(AdCandidate candidate, BidRequest request, Imp imp, Long baseBidPrice) {
-        // oCPM出价策略：基于机器学习预测的转化价值
-        float predictedValue = predictConversionValue(candidate, request, imp);
-        float adjustedBid = baseBidPrice.floatValue() * (predictedValue / 100f); // 归一化
+    private float calculateOcpmBid(AdCandidate candidate, BidRequest request, int baseBidPrice, float ctr, float cvr) {
+        // oCPM出价策略：目标转化成本 × 预估展示转化率，按展示计费
+        float adjustedBid = (float) baseBidPrice * ctr * cvr * 1000; // 转换为CPM
         
-        LOGGER.debug("oCPM出价计算, creativeId: {}, baseBid: {}, predictedValue: {}, finalBid: {}", 
-            candidate.getCreativeId(), baseBidPrice, predictedValue, adjustedBid);
+        LOGGER.debug("oCPM出价计算, creativeId: {}, baseBid: {}, estimatedCtr: {}, estimatedCvr: {}, finalBid: {}", 
+            candidate.getCreativeId(), baseBidPrice, ctr, cvr, adjustedBid);
         
         return adjustedBid;
     }
@@ -156,13 +208,14 @@ public class PricingService {
     /**
      * 计算oCPC出价
      */
-    private float calculateOcpcBid(AdCandidate candidate, BidRequest request, Imp imp, Long baseBidPrice) {
-        // oCPC出价策略：基于机器学习预测的点击价值
-        float predictedClickValue = predictClickValue(candidate, request, imp);
-        float adjustedBid = baseBidPrice.floatValue() * (predictedClickValue / 100f); // 归一化
+    private float calculateOcpcBid(AdCandidate candidate, BidRequest request, int baseBidPrice, float ctr, float cvr) {
+        // oCPC出价策略：点击出价按预估转化率相对先验转化率的比例调整，调整系数限制在0.5 - 1.5
+        float cvrFactor = (float) (cvr / properties.getPrediction().getDefaultCvr());
+        cvrFactor = Math.max(MIN_CVR_FACTOR, Math.min(cvrFactor, MAX_CVR_FACTOR));
+        float adjustedBid = (float) baseBidPrice * ctr * cvrFactor * 1000; // 转换为CPM
         
-        LOGGER.debug("oCPC出价计算, creativeId: {}, baseBid: {}, predictedClickValue: {}, finalBid: {}", 
-            candidate.getCreativeId(), baseBidPrice, predictedClickValue, adjustedBid);
+        LOGGER.debug("oCPC出价计算, creativeId: {}, baseBid: {}, estimatedCtr: {}, cvrFactor: {}, finalBid: {}", 
+            candidate.getCreativeId(), baseBidPrice, ctr, cvrFactor, adjustedBid);
         
         return adjustedBid;
     }
@@ -170,17 +223,15 @@ public class PricingService {
     /**
      * 计算质量分数
      */
-    private float calculateQualityScore(AdCandidate candidate, BidRequest request, Imp imp) {
-        // 简化的质量分数计算：
+    private float calculateQualityScore(AdCandidate candidate, BidRequest request) {
+        // 质量分数计算：
         // 1. 历史CTR表现
-        // 2. 创意质量
-        // 3. 落地页质量
-        // 4. 相关性匹配度
+        // 2. 设备匹配度
+        // 3. 地域匹配度
         
         float baseScore = 1.0f;
         
-        // 基于历史表现调整（这里简化处理）
-        // 实际应用中应该从历史数据中获取
+        // 基于历史表现调整
         float historicalCtr = getHistoricalCtr(candidate);
         if (historicalCtr > 0.01f) { // 历史CTR > 1%
             baseScore *= 1.2f;
@@ -198,114 +249,30 @@ public class PricingService {
             baseScore *= 1.05f;
         }
         
-        return Math.min(baseScore, 1.5f); // 最高不超过1.5倍
-    }
-    
-    /**
-     * 预估点击率
-     */
-    private float estimateClickThroughRate(AdCandidate candidate, BidRequest request, Imp imp) {
-        // 简化的CTR预估：
-        // 实际应用中应该使用机器学习模型
-        float baseCtr = 0.01f; // 基础CTR 1%
-        
-        // 根据设备类型调整
-        if (request.hasDevice()) {
-            if (request.getDevice().hasDevicetype()) {
-                switch (request.getDevice().getDevicetype().getNumber()) {
-                    case 1: // 手机
-                        baseCtr *= 1.2f;
-                        break;
-                    case 2: // 平板
-                        baseCtr *= 1.0f;
-                        break;
-                    case 3: // 桌面
-                        baseCtr *= 0.8f;
-                        break;
-                }
-            }
-        }
-        
-        // 根据广告位类型调整
-        if (imp.hasBanner()) {
-            baseCtr *= 1.0f;
-        } else if (imp.hasVideo()) {
-            baseCtr *= 1.5f;
-        } else if (imp.hasNative()) {
-            baseCtr *= 1.3f;
-        }
-        
-        return baseCtr;
-    }
-    
-    /**
-     * 预估转化率
-     */
-    private float estimateConversionRate(AdCandidate candidate, BidRequest request, Imp imp) {
-        // 简化的CVR预估
-        float baseCvr = 0.001f; // 基础CVR 0.1%
-        
-        // 根据推广类型调整
-        Integer promotionType = (Integer) candidate.getTargetingData().get("promotionType");
-        if (promotionType != null) {
-            switch (promotionType) {
-                case 1: // 品牌推广
-                    baseCvr *= 0.5f;
-                    break;
-                case 2: // 效果推广
-                    baseCvr *= 2.0f;
-                    break;
-                case 3: // 电商推广
-                    baseCvr *= 1.5f;
-                    break;
-                case 4: // 应用推广
-                    baseCvr *= 1.8f;
-                    break;
-            }
-        }
-        
-        return baseCvr;
-    }
-    
-    /**
-     * 预测转化价值
-     */
-    private float predictConversionValue(AdCandidate candidate, BidRequest request, Imp imp) {
-        // 简化的转化价值预测
-        // 实际应用中应该使用机器学习模型
-        return 50.0f + ThreadLocalRandom.current().nextFloat() * 50.0f; // 50-100之间
-    }
-    
-    /**
-     * 预测点击价值
-     */
-    private float predictClickValue(AdCandidate candidate, BidRequest request, Imp imp) {
-        // 简化的点击价值预测
-        return 10.0f + ThreadLocalRandom.current().nextFloat() * 20.0f; // 10-30之间
+        return Math.min(baseScore, MAX_QUALITY_SCORE); // 最高不超过1.5倍
     }
     
     /**
-     * 获取历史CTR
+     * 获取历史CTR，读取历史效果快照中按时间衰减并平滑后的创意点击率，没有历史数据时为先验点击率
      */
     private float getHistoricalCtr(AdCandidate candidate) {
-        // TODO: 从统计数据中获取历史CTR
-        // 这里简化处理，返回随机值
-        return ThreadLocalRandom.current().nextFloat() * 0.02f; // 0-2%
+        return performanceStatsService.current().getCreatives().ctr(candidate.getCreativeId());
     }
     
     /**
      * 检查设备类型是否匹配
+     * 候选已通过定向过滤，广告组设置了设备类型定向即表示请求设备在定向范围内
      */
     private boolean isDeviceMatched(AdCandidate candidate, BidRequest request) {
-        // 简化检查
-        return true;
+        return request.hasDevice()
+            && candidate.getAdGroupRecord().getTargetingRule().isTargeted(TargetingDimension.DEVICE_TYPE);
     }
     
     /**
      * 检查地域是否匹配
+     * 候选已通过定向过滤，广告组设置了地域定向即表示请求地域在定向范围内
      */
     private boolean isRegionMatched(AdCandidate candidate, BidRequest request) {
-        // 简化检查
-        return true;
+        return candidate.getAdGroupRecord().getTargetingRule().isTargeted(TargetingDimension.REGION);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,216 @@
+package top.opendsp.ads.engine.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 哈希时间轮
+ * 到期时间按tick取模落入时间轮的槽位，工作线程每个tick只处理一个槽位，添加和取消都是O(1)；
+ * 添加和取消可在任意线程进行，槽位链表只由工作线程修改；到期回调在工作线程中执行，不应阻塞
+ *
+ * @author weiping wang
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final Consumer<T> expiryHandler;
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Thread workerThread;
+
+    private volatile boolean running = true;
+    private final long startNanos;
+    private long tick;
+
+    /**
+     * @param tickDuration tick间隔，到期精度不超过一个tick
+     * @param ticksPerWheel 槽位数量，向上取整为2的幂
+     * @param expiryHandler 到期回调
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickDuration, TimeUnit unit, int ticksPerWheel, ThreadFactory threadFactory,
+            Consumer<T> expiryHandler) {
+        int size = Integer.highestOneBit(Math.max(ticksPerWheel, 2) - 1) << 1;
+        this.tickNanos = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+        this.expiryHandler = expiryHandler;
+        this.startNanos = System.nanoTime();
+        this.workerThread = threadFactory.newThread(this::run);
+        this.workerThread.start();
+    }
+
+    /**
+     * 添加定时任务
+     */
+    public Timeout<T> schedule(T task, long delay, TimeUnit unit) {
+        Timeout<T> timeout = new Timeout<>(this, task, System.nanoTime() - startNanos + unit.toNanos(delay));
+        pendingTimeouts.add(timeout);
+        pendingCount.incrementAndGet();
+        return timeout;
+    }
+
+    /**
+     * 尚未到期或取消的任务数量
+     */
+    public int pending() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 停止工作线程，未到期的任务不再执行
+     */
+    public void stop() {
+        running = false;
+        workerThread.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+                continue;
+            }
+            transferPendingTimeouts();
+            wheel[(int) (tick & mask)].expire(this);
+            tick++;
+        }
+    }
+
+    /**
+     * 将新添加的任务放入对应槽位，已过期的任务放入当前槽位
+     */
+    private void transferPendingTimeouts() {
+        Timeout<T> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            long expireTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (expireTick - tick) / wheel.length;
+            wheel[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+
+    private void onExpired(Timeout<T> timeout) {
+        try {
+            expiryHandler.accept(timeout.task);
+        } catch (RuntimeException e) {
+            // 回调异常不能中断时间轮
+        }
+    }
+
+    /**
+     * 定时任务句柄
+     */
+    public static final class Timeout<T> {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel<T> owner;
+        private final T task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        private long remainingRounds;
+        private Timeout<T> next;
+        private Timeout<T> prev;
+
+        private Timeout(HashedTimingWheel<T> owner, T task, long deadline) {
+            this.owner = owner;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public T getTask() {
+            return task;
+        }
+
+        /**
+         * 取消任务，已到期或已取消时返回false；已取消的任务由工作线程在经过其槽位时移除
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            owner.pendingCount.decrementAndGet();
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+    }
+
+    /**
+     * 槽位，双向链表只由工作线程访问
+     */
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(HashedTimingWheel<T> wheel) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.state.compareAndSet(Timeout.ST_INIT, Timeout.ST_EXPIRED)) {
+                        wheel.pendingCount.decrementAndGet();
+                        wheel.onExpired(timeout);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package top.opendsp.ads.engine.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 日内花费目标曲线测试
+ *
+ * @author weiping wang
+ */
+class PacingCurveTest {
+
+    private static final double DELTA = 1e-6;
+
+    private static final int HOUR = 3600;
+
+    @Test
+    void emptySlotsWithoutPacingIsUnpaced() {
+        assertSame(PacingCurve.UNPACED, PacingCurve.compile(null, null));
+        assertSame(PacingCurve.UNPACED, PacingCurve.compile("  ", 1));
+        assertSame(PacingCurve.UNPACED, PacingCurve.compile("0-23", null));
+    }
+
+    @Test
+    void parsesRangesAndSingleHours() {
+        PacingCurve curve = PacingCurve.compile(" 8-12 , 18 ,20- 21", null);
+
+        assertActiveHours(curve, 8, 9, 10, 11, 12, 18, 20, 21);
+        assertFalse(curve.isUniform());
+    }
+
+    @Test
+    void clampsHoursOutOfRange() {
+        PacingCurve curve = PacingCurve.compile("22-30", PacingCurve.DELIVERY_MODE_UNIFORM);
+
+        assertActiveHours(curve, 22, 23);
+    }
+
+    @Test
+    void skipsUnparsableSlots() {
+        PacingCurve curve = PacingCurve.compile("x-3,,5", null);
+
+        assertActiveHours(curve, 5);
+    }
+
+    @Test
+    void unparsableSlotsMeanAllDay() {
+        PacingCurve curve = PacingCurve.compile("abc", PacingCurve.DELIVERY_MODE_UNIFORM);
+
+        for (int hour = 0; hour < 24; hour++) {
+            assertTrue(curve.isActive(hour));
+        }
+        assertTrue(curve.isUniform());
+    }
+
+    @Test
+    void allDayUniformInterpolatesLinearly() {
+        PacingCurve curve = PacingCurve.compile(null, PacingCurve.DELIVERY_MODE_UNIFORM);
+
+        assertEquals(0, curve.targetFraction(0), DELTA);
+        assertEquals(1.5 / 24, curve.targetFraction(HOUR + HOUR / 2), DELTA);
+        assertEquals(0.5, curve.targetFraction(12 * HOUR), DELTA);
+        assertEquals(1, curve.targetFraction(24 * HOUR), DELTA);
+    }
+
+    @Test
+    void fractionStaysFlatOutsideActiveHours() {
+        PacingCurve curve = PacingCurve.compile("8-9", PacingCurve.DELIVERY_MODE_UNIFORM);
+
+        assertEquals(0, curve.targetFraction(7 * HOUR + 1800), DELTA);
+        assertEquals(0, curve.targetFraction(8 * HOUR), DELTA);
+        assertEquals(0.25, curve.targetFraction(8 * HOUR + 1800), DELTA);
+        assertEquals(0.5, curve.targetFraction(9 * HOUR), DELTA);
+        assertEquals(0.75, curve.targetFraction(9 * HOUR + 1800), DELTA);
+        assertEquals(1, curve.targetFraction(10 * HOUR), DELTA);
+        assertEquals(1, curve.targetFraction(20 * HOUR), DELTA);
+    }
+
+    private static void assertActiveHours(PacingCurve curve, int... hours) {
+        int expected = 0;
+        for (int hour : hours) {
+            expected |= 1 << hour;
+        }
+        for (int hour = 0; hour < 24; hour++) {
+            assertEquals((expected & (1 << hour)) != 0, curve.isActive(hour), "hour " + hour);
+        }
+    }
+}
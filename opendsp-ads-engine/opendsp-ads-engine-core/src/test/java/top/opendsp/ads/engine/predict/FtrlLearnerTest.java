@@ -0,0 +1,114 @@
+package top.opendsp.ads.engine.predict;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * FTRL在线学习测试
+ *
+ * @author weiping wang
+ */
+class FtrlLearnerTest {
+
+    private static final float DELTA = 1e-6f;
+
+    @Test
+    void firstUpdateMatchesClosedForm() {
+        FtrlLearner learner = new FtrlLearner(8, 0.1f, 1f, 0f, 0f);
+        FeatureVector features = features(1L);
+
+        learner.train(keys(features), features.size(), 0f, true);
+
+        // g = sigmoid(0) - 1 = -0.5, n = 0.25, z = -0.5, w = 0.5 / ((1 + 0.5) / 0.1)
+        assertEquals(0.5f / 15f, learner.snapshot().logit(features), DELTA);
+        assertEquals(1, learner.getUpdates());
+    }
+
+    @Test
+    void clicksRaiseAndNonClicksLowerLogit() {
+        FtrlLearner clicked = new FtrlLearner(8, 0.1f, 1f, 0f, 0f);
+        FtrlLearner skipped = new FtrlLearner(8, 0.1f, 1f, 0f, 0f);
+        FeatureVector features = features(1L, 2L);
+
+        float previous = 0f;
+        for (int i = 0; i < 20; i++) {
+            clicked.train(keys(features), features.size(), -2f, true);
+            float logit = clicked.snapshot().logit(features);
+            assertTrue(logit > previous);
+            previous = logit;
+            skipped.train(keys(features), features.size(), -2f, false);
+        }
+
+        assertTrue(skipped.snapshot().logit(features) < 0f);
+    }
+
+    @Test
+    void l1KeepsSmallGradientsAtZero() {
+        FtrlLearner learner = new FtrlLearner(8, 0.1f, 1f, 1f, 0f);
+        FeatureVector features = features(1L);
+
+        learner.train(keys(features), features.size(), 0f, true);
+
+        // |z| = 0.5 <= l1，权重保持为0
+        assertEquals(0f, learner.snapshot().logit(features));
+        assertEquals(1, learner.getUpdates());
+    }
+
+    @Test
+    void baseLogitAlreadyMatchingLabelBarelyMoves() {
+        FtrlLearner learner = new FtrlLearner(8, 0.1f, 1f, 0f, 0f);
+        FeatureVector features = features(1L);
+
+        learner.train(keys(features), features.size(), 10f, true);
+
+        assertEquals(0f, learner.snapshot().logit(features), 1e-4f);
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterUpdates() {
+        FtrlLearner learner = new FtrlLearner(8, 0.1f, 1f, 0f, 0f);
+        FeatureVector features = features(1L);
+        learner.train(keys(features), features.size(), 0f, true);
+
+        OnlineWeights snapshot = learner.snapshot();
+        float logit = snapshot.logit(features);
+        learner.train(keys(features), features.size(), 0f, true);
+
+        assertEquals(logit, snapshot.logit(features));
+        assertEquals(1, snapshot.getUpdates());
+        assertTrue(learner.snapshot().logit(features) > logit);
+    }
+
+    @Test
+    void untouchedFeaturesStayAtZero() {
+        FtrlLearner learner = new FtrlLearner(8, 0.1f, 1f, 0f, 0f);
+        FeatureVector trained = features(1L);
+        FeatureVector other = features(2L);
+        // 低8位相同的特征键会落入同一个槽位，这里只验证不同槽位
+        if (((int) trained.key(0) & 0xff) == ((int) other.key(0) & 0xff)) {
+            other = features(3L);
+        }
+
+        learner.train(keys(trained), trained.size(), 0f, true);
+
+        assertEquals(0f, learner.snapshot().logit(other));
+    }
+
+    private static FeatureVector features(long... values) {
+        FeatureVector features = new FeatureVector();
+        for (long value : values) {
+            features.add(1, value);
+        }
+        return features;
+    }
+
+    private static long[] keys(FeatureVector features) {
+        long[] keys = new long[features.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = features.key(i);
+        }
+        return keys;
+    }
+}
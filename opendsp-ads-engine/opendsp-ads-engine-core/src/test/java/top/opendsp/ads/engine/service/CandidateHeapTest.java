@@ -0,0 +1,136 @@
+package top.opendsp.ads.engine.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 候选堆测试
+ *
+ * @author weiping wang
+ */
+class CandidateHeapTest {
+
+    @Test
+    void keepsHighestScoresInDescendingOrder() {
+        CandidateHeap heap = new CandidateHeap().reset(3, 0);
+        float[] scores = {0.3f, 0.9f, 0.1f, 0.5f, 0.7f};
+        for (int i = 0; i < scores.length; i++) {
+            heap.offer(i, scores[i], i);
+        }
+
+        assertEquals(0.5f, heap.threshold());
+        assertArrayEquals(new int[] {1, 4, 3}, drain(heap));
+        assertEquals(0, heap.size());
+    }
+
+    @Test
+    void keepsEarlierCandidateOnTie() {
+        CandidateHeap heap = new CandidateHeap().reset(1, 0);
+        heap.offer(0, 0.5f, 1);
+        heap.offer(1, 0.5f, 2);
+
+        assertArrayEquals(new int[] {0}, drain(heap));
+    }
+
+    @Test
+    void thresholdIsNegativeInfinityUntilFull() {
+        CandidateHeap heap = new CandidateHeap().reset(2, 0);
+        heap.offer(0, 0.5f, 1);
+
+        assertEquals(Float.NEGATIVE_INFINITY, heap.threshold());
+    }
+
+    @Test
+    void ignoresCandidatesWhenCapacityIsZero() {
+        CandidateHeap heap = new CandidateHeap().reset(0, 1);
+        heap.offer(0, 0.5f, 1);
+
+        assertEquals(0, heap.size());
+    }
+
+    @Test
+    void advertiserAtCapReplacesItsLowestCandidate() {
+        CandidateHeap heap = new CandidateHeap().reset(3, 2);
+        heap.offer(0, 0.5f, 1);
+        heap.offer(1, 0.6f, 1);
+        heap.offer(2, 0.2f, 2);
+        // 广告主1已达上限，替换其分值最低的候选0，而不是堆顶广告主2的候选
+        heap.offer(3, 0.55f, 1);
+
+        assertEquals(3, heap.size());
+        assertEquals(0.2f, heap.threshold());
+        assertArrayEquals(new int[] {1, 3, 2}, drain(heap));
+    }
+
+    @Test
+    void advertiserAtCapRejectsLowerScore() {
+        CandidateHeap heap = new CandidateHeap().reset(3, 1);
+        heap.offer(0, 0.5f, 1);
+        heap.offer(1, 0.4f, 1);
+
+        assertEquals(1, heap.size());
+        assertArrayEquals(new int[] {0}, drain(heap));
+    }
+
+    @Test
+    void advertiserAtCapReplacesCandidateBelowRoot() {
+        CandidateHeap heap = new CandidateHeap().reset(4, 1);
+        heap.offer(0, 0.1f, 1);
+        heap.offer(1, 0.2f, 2);
+        heap.offer(2, 0.3f, 3);
+        heap.offer(3, 0.4f, 4);
+        // 替换非堆顶的候选后仍需保持堆序，堆顶仍为分值最低的候选
+        heap.offer(4, 0.9f, 2);
+
+        assertEquals(0.1f, heap.threshold());
+        assertArrayEquals(new int[] {4, 3, 2, 0}, drain(heap));
+    }
+
+    @Test
+    void advertiserAtCapReplacesRootWhenFull() {
+        CandidateHeap heap = new CandidateHeap().reset(2, 1);
+        heap.offer(0, 0.1f, 1);
+        heap.offer(1, 0.2f, 2);
+        heap.offer(2, 0.5f, 1);
+
+        assertEquals(0.2f, heap.threshold());
+        assertArrayEquals(new int[] {2, 1}, drain(heap));
+    }
+
+    @Test
+    void otherAdvertiserStillCompetesWithRootWhenFull() {
+        CandidateHeap heap = new CandidateHeap().reset(2, 1);
+        heap.offer(0, 0.1f, 1);
+        heap.offer(1, 0.2f, 2);
+        heap.offer(2, 0.05f, 3);
+        heap.offer(3, 0.3f, 3);
+
+        assertArrayEquals(new int[] {3, 1}, drain(heap));
+    }
+
+    @Test
+    void resetClearsAndGrowsCapacity() {
+        CandidateHeap heap = new CandidateHeap().reset(2, 0);
+        heap.offer(0, 0.5f, 1);
+        heap.reset(20, 0);
+        assertEquals(0, heap.size());
+
+        for (int i = 0; i < 30; i++) {
+            heap.offer(i, i, i);
+        }
+        int[] expected = new int[20];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = 29 - i;
+        }
+        assertArrayEquals(expected, drain(heap));
+    }
+
+    private static int[] drain(CandidateHeap heap) {
+        int[] out = new int[heap.size()];
+        return Arrays.copyOf(out, heap.drainDescending(out));
+    }
+}
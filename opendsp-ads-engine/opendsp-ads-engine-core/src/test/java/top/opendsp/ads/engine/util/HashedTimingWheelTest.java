@@ -0,0 +1,142 @@
+package top.opendsp.ads.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 哈希时间轮测试
+ *
+ * @author weiping wang
+ */
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel<String> wheel;
+
+    @AfterEach
+    void stop() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void expiresAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long[] expiredAt = new long[1];
+        wheel = newWheel(8, task -> {
+            expiredAt[0] = System.nanoTime();
+            latch.countDown();
+        });
+
+        long start = System.nanoTime();
+        wheel.schedule("a", 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(expiredAt[0] - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void waitsRemainingRoundsWhenDelayExceedsWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long[] expiredAt = new long[1];
+        // 8个槽位、10毫秒tick，一圈80毫秒，250毫秒的任务需要在槽位上等待多圈
+        wheel = newWheel(8, task -> {
+            expiredAt[0] = System.nanoTime();
+            latch.countDown();
+        });
+
+        long start = System.nanoTime();
+        wheel.schedule("a", 250, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(expiredAt[0] - start >= TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    void expiresInDeadlineOrder() throws InterruptedException {
+        Queue<String> expired = new ConcurrentLinkedQueue<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        wheel = newWheel(8, task -> {
+            expired.add(task);
+            latch.countDown();
+        });
+
+        wheel.schedule("c", 300, TimeUnit.MILLISECONDS);
+        wheel.schedule("a", 20, TimeUnit.MILLISECONDS);
+        wheel.schedule("b", 120, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("[a, b, c]", expired.toString());
+    }
+
+    @Test
+    void cancelledTaskDoesNotExpire() throws InterruptedException {
+        Queue<String> expired = new ConcurrentLinkedQueue<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel = newWheel(8, task -> {
+            expired.add(task);
+            latch.countDown();
+        });
+
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 30, TimeUnit.MILLISECONDS);
+        wheel.schedule("kept", 100, TimeUnit.MILLISECONDS);
+        assertEquals(2, wheel.pending());
+
+        assertTrue(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertFalse(cancelled.cancel());
+        assertEquals(1, wheel.pending());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("[kept]", expired.toString());
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void cancelAfterExpiryReturnsFalse() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel = newWheel(8, task -> latch.countDown());
+
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(timeout.cancel());
+        assertFalse(timeout.isCancelled());
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void handlerExceptionDoesNotStopWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel = newWheel(8, task -> {
+            if ("fail".equals(task)) {
+                throw new IllegalStateException(task);
+            }
+            latch.countDown();
+        });
+
+        wheel.schedule("fail", 10, TimeUnit.MILLISECONDS);
+        wheel.schedule("ok", 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private static HashedTimingWheel<String> newWheel(int ticksPerWheel, Consumer<String> handler) {
+        return new HashedTimingWheel<>(10, TimeUnit.MILLISECONDS, ticksPerWheel, runnable -> {
+            Thread thread = new Thread(runnable, "timing-wheel-test");
+            thread.setDaemon(true);
+            return thread;
+        }, handler);
+    }
+}
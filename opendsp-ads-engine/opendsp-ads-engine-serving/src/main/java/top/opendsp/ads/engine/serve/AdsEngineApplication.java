@@ -1,20 +1,24 @@
 package top.opendsp.ads.engine.serve;
 
-import java.io.IOException;
-
-import io.grpc.Grpc;
-import io.grpc.Server;
-import top.opendsp.ads.engine.service.BiddingServiceImpl;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+/**
+ * 广告投放引擎启动类
+ * gRPC服务由{@link GrpcServerLifecycle}在Spring容器启动完成后启动，注册的是容器管理的服务实例
+ *
+ * @author weiping wang
+ */
+@SpringBootApplication(scanBasePackages = {
+        "top.opendsp.ads.engine", "io.github.javagossip.opendsp.dao", "io.github.javagossip.opendsp.commons"
+})
+@EnableScheduling
+@MapperScan("io.github.javagossip.opendsp.mapper")
 public class AdsEngineApplication {
 
-    private static Server server;
-
     public static void main(String[] args) {
-        try {
-            server = Grpc.newServerBuilderForPort(9555, null).addService(new BiddingServiceImpl()).build().start();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        SpringApplication.run(AdsEngineApplication.class, args);
     }
 }
@@ -0,0 +1,19 @@
+package top.opendsp.ads.engine.serve;
+
+/**
+ * gRPC服务端执行器类型
+ *
+ * @author weiping wang
+ */
+public enum GrpcExecutorType {
+
+    /**
+     * 固定大小的平台线程池，按线程复用的候选批次和定向上下文可以复用
+     */
+    FIXED,
+
+    /**
+     * 直接在Netty事件循环线程中执行，只适用于处理过程不阻塞的场景
+     */
+    DIRECT
+}
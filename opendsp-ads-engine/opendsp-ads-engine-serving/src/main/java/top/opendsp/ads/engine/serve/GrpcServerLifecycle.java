@@ -0,0 +1,166 @@
+package top.opendsp.ads.engine.serve;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+
+/**
+ * 投放引擎gRPC服务端
+ * Spring容器启动完成后注册容器中的全部gRPC服务并启动Netty服务端，容器关闭时先停止接收新调用，
+ * 等待进行中的调用完成后再关闭事件循环和执行器
+ *
+ * @author weiping wang
+ */
+@Component
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    @Autowired
+    private GrpcServerProperties properties;
+
+    @Autowired
+    private List<BindableService> services;
+
+    private Server server;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(properties.getPort());
+        configureTransport(builder);
+        configureExecutor(builder);
+
+        builder.keepAliveTime(properties.getKeepAliveTime(), TimeUnit.MILLISECONDS)
+            .keepAliveTimeout(properties.getKeepAliveTimeout(), TimeUnit.MILLISECONDS)
+            .permitKeepAliveTime(properties.getPermitKeepAliveTime(), TimeUnit.MILLISECONDS)
+            .permitKeepAliveWithoutCalls(properties.isPermitKeepAliveWithoutCalls())
+            .maxConcurrentCallsPerConnection(properties.getMaxConcurrentCallsPerConnection())
+            .maxInboundMessageSize(properties.getMaxInboundMessageSize());
+        if (properties.getMaxConnectionIdle() > 0) {
+            builder.maxConnectionIdle(properties.getMaxConnectionIdle(), TimeUnit.MILLISECONDS);
+        }
+        if (properties.getMaxConnectionAge() > 0) {
+            builder.maxConnectionAge(properties.getMaxConnectionAge(), TimeUnit.MILLISECONDS);
+        }
+        if (properties.isAutoFlowControl()) {
+            builder.initialFlowControlWindow(properties.getFlowControlWindow());
+        } else {
+            builder.flowControlWindow(properties.getFlowControlWindow());
+        }
+        services.forEach(builder::addService);
+
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            // 事件循环是非守护线程，启动失败时需要释放，否则进程无法退出
+            releaseResources();
+            throw new UncheckedIOException("启动gRPC服务失败, port: " + properties.getPort(), e);
+        }
+        running = true;
+        LOGGER.info("gRPC服务已启动, port: {}, executor: {}, epoll: {}, 服务数: {}", properties.getPort(),
+            properties.getExecutor(), bossGroup instanceof EpollEventLoopGroup, services.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (server != null) {
+            server.shutdown();
+            try {
+                if (!server.awaitTermination(properties.getShutdownTimeout(), TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("gRPC服务停止超时, 强制关闭进行中的调用");
+                    server.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                server.shutdownNow();
+            }
+        }
+        releaseResources();
+        LOGGER.info("gRPC服务已停止");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 关闭事件循环和执行器，start()在创建事件循环之前失败时对应字段为null
+     */
+    private void releaseResources() {
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully();
+        }
+        if (workerGroup != null) {
+            workerGroup.shutdownGracefully();
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private void configureTransport(NettyServerBuilder builder) {
+        if (properties.isEpoll() && Epoll.isAvailable()) {
+            bossGroup = new EpollEventLoopGroup(properties.getBossThreads(), threadFactory("opendsp-grpc-boss-%d", false));
+            workerGroup = new EpollEventLoopGroup(properties.getWorkerThreads(),
+                threadFactory("opendsp-grpc-worker-%d", false));
+            builder.channelType(EpollServerSocketChannel.class);
+        } else {
+            if (properties.isEpoll()) {
+                LOGGER.warn("当前平台不支持epoll, 使用NIO传输, 原因: {}", String.valueOf(Epoll.unavailabilityCause()));
+            }
+            bossGroup = new NioEventLoopGroup(properties.getBossThreads(), threadFactory("opendsp-grpc-boss-%d", false));
+            workerGroup = new NioEventLoopGroup(properties.getWorkerThreads(),
+                threadFactory("opendsp-grpc-worker-%d", false));
+            builder.channelType(NioServerSocketChannel.class);
+        }
+        builder.bossEventLoopGroup(bossGroup).workerEventLoopGroup(workerGroup);
+    }
+
+    private void configureExecutor(NettyServerBuilder builder) {
+        switch (properties.getExecutor()) {
+            case DIRECT:
+                builder.directExecutor();
+                break;
+            default:
+                executor = Executors.newFixedThreadPool(properties.getExecutorThreads(),
+                    threadFactory("opendsp-grpc-%d", true));
+                builder.executor(executor);
+                break;
+        }
+    }
+
+    /**
+     * 事件循环使用非守护线程，投放引擎没有Web容器，由事件循环线程保持进程运行
+     */
+    private static ThreadFactory threadFactory(String nameFormat, boolean daemon) {
+        return new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(daemon).build();
+    }
+}
@@ -0,0 +1,99 @@
+package top.opendsp.ads.engine.serve;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 投放引擎gRPC服务端配置
+ *
+ * @author weiping wang
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "opendsp.engine.grpc")
+public class GrpcServerProperties {
+
+    private int port = 9555;
+
+    /**
+     * 服务端执行器类型
+     */
+    private GrpcExecutorType executor = GrpcExecutorType.FIXED;
+
+    /**
+     * 固定线程池的线程数，默认为CPU核数的2倍
+     */
+    private int executorThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * 是否使用epoll传输，当前平台不支持时使用NIO
+     */
+    private boolean epoll = true;
+
+    /**
+     * 接收连接的事件循环线程数
+     */
+    private int bossThreads = 1;
+
+    /**
+     * 处理读写的事件循环线程数，0表示使用Netty默认值（CPU核数的2倍）
+     */
+    private int workerThreads = 0;
+
+    /**
+     * 连接空闲多久后发送keepalive ping，单位: 毫秒
+     */
+    private long keepAliveTime = 30000;
+
+    /**
+     * 等待keepalive ping响应的超时时间，单位: 毫秒
+     */
+    private long keepAliveTimeout = 10000;
+
+    /**
+     * 允许客户端发送keepalive ping的最小间隔，单位: 毫秒
+     */
+    private long permitKeepAliveTime = 10000;
+
+    /**
+     * 是否允许客户端在没有调用时发送keepalive ping，rtb层保持的长连接需要开启
+     */
+    private boolean permitKeepAliveWithoutCalls = true;
+
+    /**
+     * 连接空闲超过该时间后关闭，0表示不关闭，单位: 毫秒
+     */
+    private long maxConnectionIdle = 0;
+
+    /**
+     * 连接存活超过该时间后优雅关闭，用于客户端重新均衡到新节点，0表示不限，单位: 毫秒
+     */
+    private long maxConnectionAge = 0;
+
+    /**
+     * 每个连接的最大并发流数
+     */
+    private int maxConcurrentCallsPerConnection = 1000;
+
+    /**
+     * HTTP/2流控窗口，单位: 字节
+     */
+    private int flowControlWindow = 1024 * 1024;
+
+    /**
+     * 是否根据带宽时延积自动调整流控窗口，开启时flowControlWindow为初始窗口
+     */
+    private boolean autoFlowControl = true;
+
+    /**
+     * 最大请求消息长度，单位: 字节
+     */
+    private int maxInboundMessageSize = 4 * 1024 * 1024;
+
+    /**
+     * 停止时等待进行中调用完成的最长时间，单位: 毫秒
+     */
+    private long shutdownTimeout = 5000;
+}
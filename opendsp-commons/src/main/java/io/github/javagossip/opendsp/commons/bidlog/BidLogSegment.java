@@ -0,0 +1,53 @@
+package io.github.javagossip.opendsp.commons.bidlog;
+
+/**
+ * 竞价日志段文件格式
+ * 日志段以8字节文件头（魔数、版本）开始，之后是连续的记录，每条记录为4字节长度加序列化的
+ * {@code BidLogRecord}；长度为0表示数据结束。写入中的日志段使用.seg.writing后缀，写满或超时后
+ * 截断到实际长度并重命名为.seg，只有.seg文件可被导入。
+ * 可选的请求ID索引文件（.idx）包含记录数量和按请求ID哈希排序的(哈希, 记录偏移)数组
+ *
+ * @author weiping wang
+ */
+public final class BidLogSegment {
+
+    public static final int MAGIC = 0x4F44424C;
+
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 8;
+
+    public static final String SEGMENT_SUFFIX = ".seg";
+
+    public static final String WRITING_SUFFIX = ".seg.writing";
+
+    public static final String INDEX_SUFFIX = ".idx";
+
+    private BidLogSegment() {
+    }
+
+    /**
+     * 请求ID的64位FNV-1a哈希，用于索引
+     */
+    public static long hash(String requestId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < requestId.length(); i++) {
+            hash ^= requestId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 日志段文件名去掉后缀后的名称
+     */
+    public static String baseName(String fileName) {
+        if (fileName.endsWith(WRITING_SUFFIX)) {
+            return fileName.substring(0, fileName.length() - WRITING_SUFFIX.length());
+        }
+        if (fileName.endsWith(SEGMENT_SUFFIX)) {
+            return fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length());
+        }
+        return fileName;
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.javagossip.opendsp.commons.bidlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import top.opendsp.proto.log.OpenDspBidLog.BidLogRecord;
+
+/**
+ * 竞价日志段读取器
+ * 以只读方式内存映射日志段，按写入顺序遍历记录；存在索引文件时可按请求ID直接定位记录
+ *
+ * @author weiping wang
+ */
+public final class BidLogSegmentReader implements Closeable {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private BidLogSegmentReader(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * 打开日志段并校验文件头
+     */
+    public static BidLogSegmentReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < BidLogSegment.HEADER_SIZE || buffer.getInt() != BidLogSegment.MAGIC) {
+                throw new IOException("不是竞价日志段文件: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != BidLogSegment.VERSION) {
+                throw new IOException("不支持的竞价日志段版本: " + version + ", file: " + path);
+            }
+            return new BidLogSegmentReader(path, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 是否还有完整的记录
+     */
+    public boolean hasNext() {
+        return isComplete(buffer.position());
+    }
+
+    /**
+     * 读取下一条记录
+     */
+    public BidLogRecord next() throws IOException {
+        int position = buffer.position();
+        if (!isComplete(position)) {
+            throw new IOException("竞价日志段没有更多记录: " + path);
+        }
+        BidLogRecord record = read(position);
+        buffer.position(position + Integer.BYTES + buffer.getInt(position));
+        return record;
+    }
+
+    /**
+     * 按请求ID查找记录，存在索引文件时只读取命中的记录，否则顺序扫描
+     */
+    public List<BidLogRecord> findByRequestId(String requestId) throws IOException {
+        List<BidLogRecord> records = new ArrayList<>();
+        Path indexPath = path.resolveSibling(BidLogSegment.baseName(path.getFileName().toString())
+            + BidLogSegment.INDEX_SUFFIX);
+        if (!Files.exists(indexPath)) {
+            int position = BidLogSegment.HEADER_SIZE;
+            while (isComplete(position)) {
+                BidLogRecord record = read(position);
+                if (requestId.equals(record.getRequestId())) {
+                    records.add(record);
+                }
+                position += Integer.BYTES + buffer.getInt(position);
+            }
+            return records;
+        }
+
+        ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        int count = index.getInt(0);
+        int entrySize = Long.BYTES + Integer.BYTES;
+        long hash = BidLogSegment.hash(requestId);
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index.getLong(Integer.BYTES + mid * entrySize) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < count && index.getLong(Integer.BYTES + i * entrySize) == hash; i++) {
+            BidLogRecord record = read(index.getInt(Integer.BYTES + i * entrySize + Long.BYTES));
+            // 哈希冲突时按请求ID再次比较
+            if (requestId.equals(record.getRequestId())) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 最后一条完整记录之后的偏移，用于截断异常退出时遗留的日志段
+     */
+    public int validLength() {
+        int position = BidLogSegment.HEADER_SIZE;
+        while (isComplete(position)) {
+            position += Integer.BYTES + buffer.getInt(position);
+        }
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean isComplete(int position) {
+        if (buffer.limit() - position < Integer.BYTES) {
+            return false;
+        }
+        int length = buffer.getInt(position);
+        return length > 0 && length <= buffer.limit() - position - Integer.BYTES;
+    }
+
+    private BidLogRecord read(int position) throws IOException {
+        int length = buffer.getInt(position);
+        return BidLogRecord.parseFrom(buffer.slice(position + Integer.BYTES, length));
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.javagossip.opendsp.commons.bidlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import com.google.protobuf.CodedOutputStream;
+
+import top.opendsp.proto.log.OpenDspBidLog.BidLogRecord;
+
+/**
+ * 竞价日志段写入器
+ * 日志段文件按固定大小内存映射，记录顺序追加到映射区域；写满或超过最长打开时间后关闭并滚动到新的日志段。
+ * 非线程安全，只由竞价日志写入线程使用
+ *
+ * @author weiping wang
+ */
+public final class BidLogSegmentWriter implements Closeable {
+
+    private static final DateTimeFormatter NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxAgeMillis;
+    private final boolean indexEnabled;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private String segmentName;
+    private long openTime;
+    private int sequence;
+
+    private long[] indexHashes = new long[0];
+    private int[] indexOffsets = new int[0];
+    private int indexSize;
+
+    /**
+     * @param segmentSize 日志段文件大小，单位: 字节
+     * @param maxAgeMillis 日志段最长打开时间，超过后即使未写满也关闭
+     * @param indexEnabled 是否生成请求ID索引
+     */
+    public BidLogSegmentWriter(Path directory, int segmentSize, long maxAgeMillis, boolean indexEnabled)
+            throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxAgeMillis = maxAgeMillis;
+        this.indexEnabled = indexEnabled;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * 关闭上次异常退出时遗留的写入中日志段，截断到最后一条完整记录并重命名为可导入的日志段
+     */
+    public void recover() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + BidLogSegment.WRITING_SUFFIX)) {
+            for (Path file : files) {
+                int end;
+                try (BidLogSegmentReader reader = BidLogSegmentReader.open(file)) {
+                    end = reader.validLength();
+                }
+                try (FileChannel recovered = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    recovered.truncate(end);
+                }
+                String baseName = BidLogSegment.baseName(file.getFileName().toString());
+                Files.move(file, directory.resolve(baseName + BidLogSegment.SEGMENT_SUFFIX),
+                    StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+
+    /**
+     * 追加一条记录，当前日志段空间不足时先滚动
+     */
+    public void append(BidLogRecord record) throws IOException {
+        int size = record.getSerializedSize();
+        int required = Integer.BYTES + size;
+        if (BidLogSegment.HEADER_SIZE + required > segmentSize) {
+            throw new IOException("竞价日志记录超过日志段大小, size: " + size);
+        }
+        if (buffer == null || buffer.remaining() < required) {
+            closeSegment();
+            openSegment();
+        }
+
+        int offset = buffer.position();
+        buffer.putInt(size);
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        record.writeTo(output);
+        output.flush();
+        buffer.position(offset + required);
+
+        if (indexEnabled) {
+            addIndexEntry(BidLogSegment.hash(record.getRequestId()), offset);
+        }
+    }
+
+    /**
+     * 当前日志段超过最长打开时间时关闭，写入线程空闲时也应调用
+     */
+    public void rotateIfExpired() throws IOException {
+        if (buffer != null && System.currentTimeMillis() - openTime >= maxAgeMillis) {
+            closeSegment();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeSegment();
+    }
+
+    private void openSegment() throws IOException {
+        segmentName = "bidlog-" + LocalDateTime.now().format(NAME_FORMATTER) + "-" + (sequence++);
+        channel = FileChannel.open(directory.resolve(segmentName + BidLogSegment.WRITING_SUFFIX),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        buffer.putInt(BidLogSegment.MAGIC);
+        buffer.putInt(BidLogSegment.VERSION);
+        openTime = System.currentTimeMillis();
+        indexSize = 0;
+    }
+
+    /**
+     * 刷盘并截断到实际长度，先写索引再重命名日志段，导入方看到日志段时索引已经完整
+     */
+    private void closeSegment() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        int end = buffer.position();
+        buffer.force();
+        buffer = null;
+        channel.truncate(end);
+        channel.close();
+        channel = null;
+
+        if (indexEnabled) {
+            writeIndex(directory.resolve(segmentName + BidLogSegment.INDEX_SUFFIX));
+        }
+        Files.move(directory.resolve(segmentName + BidLogSegment.WRITING_SUFFIX),
+            directory.resolve(segmentName + BidLogSegment.SEGMENT_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void addIndexEntry(long hash, int offset) {
+        if (indexSize == indexHashes.length) {
+            int capacity = Math.max(1024, indexSize << 1);
+            indexHashes = Arrays.copyOf(indexHashes, capacity);
+            indexOffsets = Arrays.copyOf(indexOffsets, capacity);
+        }
+        indexHashes[indexSize] = hash;
+        indexOffsets[indexSize] = offset;
+        indexSize++;
+    }
+
+    private void writeIndex(Path indexPath) throws IOException {
+        // 按(哈希, 偏移)排序，相同请求ID的记录按写入顺序相邻
+        Integer[] order = new Integer[indexSize];
+        for (int i = 0; i < indexSize; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int compare = Long.compare(indexHashes[a], indexHashes[b]);
+            return compare != 0 ? compare : Integer.compare(indexOffsets[a], indexOffsets[b]);
+        });
+
+        ByteBuffer index = ByteBuffer.allocate(Integer.BYTES + indexSize * (Long.BYTES + Integer.BYTES));
+        index.putInt(indexSize);
+        for (int i = 0; i < indexSize; i++) {
+            index.putLong(indexHashes[order[i]]);
+            index.putInt(indexOffsets[order[i]]);
+        }
+        index.flip();
+        try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (index.hasRemaining()) {
+                indexChannel.write(index);
+            }
+            indexChannel.force(true);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.javagossip.opendsp.commons.bidlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import top.opendsp.proto.log.OpenDspBidLog.BidLogRecord;
+
+/**
+ * 竞价日志段读取测试
+ *
+ * @author weiping wang
+ */
+class BidLogSegmentReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void validLengthOfCompleteSegmentIsFileSize() throws IOException {
+        Path segment = writeSegment(segmentBytes(new int[] {5, 3}, null));
+
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(segment)) {
+            assertEquals(Files.size(segment), reader.validLength());
+        }
+    }
+
+    @Test
+    void validLengthStopsBeforeTruncatedRecord() throws IOException {
+        // 最后一条记录声明10字节，只写入了4字节
+        Path segment = writeSegment(segmentBytes(new int[] {5, 3}, new byte[] {0, 0, 0, 10, 1, 2, 3, 4}));
+
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(segment)) {
+            assertEquals(BidLogSegment.HEADER_SIZE + (4 + 5) + (4 + 3), reader.validLength());
+        }
+    }
+
+    @Test
+    void validLengthStopsBeforeTruncatedLengthPrefix() throws IOException {
+        Path segment = writeSegment(segmentBytes(new int[] {5}, new byte[] {0, 0}));
+
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(segment)) {
+            assertEquals(BidLogSegment.HEADER_SIZE + 4 + 5, reader.validLength());
+        }
+    }
+
+    @Test
+    void validLengthStopsAtZeroLength() throws IOException {
+        // 写入中的日志段按固定大小映射，未写入的区域为0
+        Path segment = writeSegment(segmentBytes(new int[] {5}, new byte[16]));
+
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(segment)) {
+            assertEquals(BidLogSegment.HEADER_SIZE + 4 + 5, reader.validLength());
+        }
+    }
+
+    @Test
+    void validLengthOfEmptySegmentIsHeaderSize() throws IOException {
+        Path segment = writeSegment(segmentBytes(new int[0], null));
+
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(segment)) {
+            assertEquals(BidLogSegment.HEADER_SIZE, reader.validLength());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void rejectsFileWithoutMagic() throws IOException {
+        Path segment = writeSegment(new byte[BidLogSegment.HEADER_SIZE]);
+
+        assertThrows(IOException.class, () -> BidLogSegmentReader.open(segment));
+    }
+
+    @Test
+    void recoverTruncatesWritingSegmentToLastCompleteRecord() throws IOException {
+        try (BidLogSegmentWriter writer = new BidLogSegmentWriter(directory, 4096, 60_000, false)) {
+            writer.append(record("r1"));
+            writer.append(record("r2"));
+        }
+        Path segment = onlySegment();
+        long validLength = Files.size(segment);
+        ByteBuffer truncated = ByteBuffer.allocate((int) validLength + 8);
+        truncated.put(Files.readAllBytes(segment));
+        truncated.putInt(100).putInt(0x01020304);
+        Files.delete(segment);
+        Path writing = directory.resolve("bidlog-recovered" + BidLogSegment.WRITING_SUFFIX);
+        Files.write(writing, truncated.array());
+
+        try (BidLogSegmentWriter writer = new BidLogSegmentWriter(directory, 4096, 60_000, false)) {
+            writer.recover();
+        }
+
+        Path recovered = directory.resolve("bidlog-recovered" + BidLogSegment.SEGMENT_SUFFIX);
+        assertFalse(Files.exists(writing));
+        assertEquals(validLength, Files.size(recovered));
+        List<String> requestIds = new ArrayList<>();
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(recovered)) {
+            while (reader.hasNext()) {
+                requestIds.add(reader.next().getRequestId());
+            }
+        }
+        assertEquals(List.of("r1", "r2"), requestIds);
+    }
+
+    @Test
+    void findsRecordsByRequestIdThroughIndex() throws IOException {
+        try (BidLogSegmentWriter writer = new BidLogSegmentWriter(directory, 4096, 60_000, true)) {
+            writer.append(record("r1"));
+            writer.append(record("r2"));
+            writer.append(record("r1"));
+        }
+
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(onlySegment())) {
+            assertEquals(2, reader.findByRequestId("r1").size());
+            assertEquals(1, reader.findByRequestId("r2").size());
+            assertTrue(reader.findByRequestId("r3").isEmpty());
+        }
+    }
+
+    private Path writeSegment(byte[] bytes) throws IOException {
+        return Files.write(directory.resolve("bidlog-test" + BidLogSegment.SEGMENT_SUFFIX), bytes);
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.filter(file -> file.toString().endsWith(BidLogSegment.SEGMENT_SUFFIX))
+                .toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+
+    /**
+     * 文件头加指定长度的记录，记录内容不解析，tail为追加在末尾的字节
+     */
+    private static byte[] segmentBytes(int[] recordLengths, byte[] tail) {
+        int size = BidLogSegment.HEADER_SIZE + (tail != null ? tail.length : 0);
+        for (int length : recordLengths) {
+            size += Integer.BYTES + length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(BidLogSegment.MAGIC).putInt(BidLogSegment.VERSION);
+        for (int length : recordLengths) {
+            buffer.putInt(length).put(new byte[length]);
+        }
+        if (tail != null) {
+            buffer.put(tail);
+        }
+        return buffer.array();
+    }
+
+    private static BidLogRecord record(String requestId) {
+        return BidLogRecord.newBuilder()
+            .setRequestId(requestId)
+            .setAdvertiserId(1)
+            .setBidPrice(100)
+            .setCreateTime(System.currentTimeMillis())
+            .build();
+    }
+}
@@ -1,9 +1,15 @@
 package io.github.javagossip.opendsp.cron;
 
+import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+        "io.github.javagossip.opendsp.cron", "io.github.javagossip.opendsp.dao"
+})
+@EnableScheduling
+@MapperScan("io.github.javagossip.opendsp.mapper")
 public class CronApplication {
 
     public static void main(String[] args) {
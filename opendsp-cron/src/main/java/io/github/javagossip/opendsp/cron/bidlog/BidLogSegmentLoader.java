@@ -0,0 +1,130 @@
+package io.github.javagossip.opendsp.cron.bidlog;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.javagossip.opendsp.commons.bidlog.BidLogSegment;
+import io.github.javagossip.opendsp.commons.bidlog.BidLogSegmentReader;
+import io.github.javagossip.opendsp.dao.BidLogDao;
+import io.github.javagossip.opendsp.model.BidLog;
+import top.opendsp.proto.log.OpenDspBidLog.BidLogRecord;
+
+/**
+ * 竞价日志段导入任务
+ * 定时扫描投放引擎关闭的日志段（.seg），按批导入bid_log表，一个日志段在一个事务中导入，导入成功后删除日志段和索引
+ *
+ * @author weiping wang
+ */
+@Component
+public class BidLogSegmentLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BidLogSegmentLoader.class);
+
+    @Autowired
+    private BidLogDao bidLogDao;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${opendsp.cron.bid-log.segment-dir:data/bidlog}")
+    private String segmentDir;
+
+    @Value("${opendsp.cron.bid-log.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 导入全部已关闭的日志段，单个日志段导入失败时保留文件，下次继续导入
+     */
+    @Scheduled(fixedDelayString = "${opendsp.cron.bid-log.load-interval:60000}")
+    public void load() {
+        Path directory = Paths.get(segmentDir);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + BidLogSegment.SEGMENT_SUFFIX)) {
+            files.forEach(segments::add);
+        } catch (IOException e) {
+            LOGGER.error("扫描竞价日志段目录异常, dir: {}", directory, e);
+            return;
+        }
+        // 文件名以创建时间开头，按名称排序即按写入顺序导入
+        segments.sort(null);
+
+        for (Path segment : segments) {
+            long startTime = System.currentTimeMillis();
+            try {
+                Integer count = transactionTemplate.execute(status -> loadSegment(segment));
+                delete(segment);
+                LOGGER.info("竞价日志段导入完成, file: {}, 记录数: {}, 耗时: {}ms",
+                    segment.getFileName(), count, System.currentTimeMillis() - startTime);
+            } catch (Exception e) {
+                LOGGER.error("竞价日志段导入异常, file: {}", segment.getFileName(), e);
+            }
+        }
+    }
+
+    private int loadSegment(Path segment) {
+        int count = 0;
+        try (BidLogSegmentReader reader = BidLogSegmentReader.open(segment)) {
+            List<BidLog> batch = new ArrayList<>(batchSize);
+            while (reader.hasNext()) {
+                batch.add(toBidLog(reader.next()));
+                if (batch.size() >= batchSize) {
+                    bidLogDao.getMapper().insertBatch(batch);
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                bidLogDao.getMapper().insertBatch(batch);
+                count += batch.size();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("读取竞价日志段失败: " + segment, e);
+        }
+        return count;
+    }
+
+    private void delete(Path segment) throws IOException {
+        String baseName = BidLogSegment.baseName(segment.getFileName().toString());
+        Files.deleteIfExists(segment.resolveSibling(baseName + BidLogSegment.INDEX_SUFFIX));
+        Files.delete(segment);
+    }
+
+    private static BidLog toBidLog(BidLogRecord record) {
+        return BidLog.builder()
+            .requestId(record.getRequestId())
+            .advertiserId(record.getAdvertiserId())
+            .campaignId(record.getCampaignId())
+            .adGroupId(record.getAdGroupId())
+            .creativeId(record.getCreativeId())
+            .adSlotId(record.hasAdSlotId() ? record.getAdSlotId() : null)
+            .adxId(record.getAdxId())
+            .adxSlotId(record.hasAdxSlotId() ? record.getAdxSlotId() : null)
+            .bidPrice(record.getBidPrice())
+            .winPrice(record.hasWinPrice() ? record.getWinPrice() : null)
+            .isWin(record.getIsWin() ? 1 : 0)
+            .userId(record.hasUserId() ? record.getUserId() : null)
+            .deviceId(record.hasDeviceId() ? record.getDeviceId() : null)
+            .createTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.getCreateTime()), ZoneId.systemDefault()))
+            .build();
+    }
+}
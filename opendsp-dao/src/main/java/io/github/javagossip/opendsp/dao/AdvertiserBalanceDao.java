@@ -0,0 +1,14 @@
+package io.github.javagossip.opendsp.dao;
+
+import com.mybatisflex.core.service.IService;
+import io.github.javagossip.opendsp.model.AdvertiserBalance;
+
+/**
+ * 广告主余额表 服务层。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+public interface AdvertiserBalanceDao extends IService<AdvertiserBalance> {
+
+}
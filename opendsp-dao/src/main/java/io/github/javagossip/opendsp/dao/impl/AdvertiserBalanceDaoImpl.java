@@ -0,0 +1,18 @@
+package io.github.javagossip.opendsp.dao.impl;
+
+import com.mybatisflex.spring.service.impl.ServiceImpl;
+import io.github.javagossip.opendsp.model.AdvertiserBalance;
+import io.github.javagossip.opendsp.mapper.AdvertiserBalanceMapper;
+import io.github.javagossip.opendsp.dao.AdvertiserBalanceDao;
+import org.springframework.stereotype.Service;
+
+/**
+ * 广告主余额表 服务层实现。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+@Service
+public class AdvertiserBalanceDaoImpl extends ServiceImpl<AdvertiserBalanceMapper, AdvertiserBalance>  implements AdvertiserBalanceDao{
+
+}
@@ -0,0 +1,18 @@
+package io.github.javagossip.opendsp.dao.impl;
+
+import com.mybatisflex.spring.service.impl.ServiceImpl;
+import io.github.javagossip.opendsp.model.BidEvent;
+import io.github.javagossip.opendsp.mapper.BidEventMapper;
+import io.github.javagossip.opendsp.dao.BidEventDao;
+import org.springframework.stereotype.Service;
+
+/**
+ * 竞价结果事件 服务层实现。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+@Service
+public class BidEventDaoImpl extends ServiceImpl<BidEventMapper, BidEvent>  implements BidEventDao{
+
+}
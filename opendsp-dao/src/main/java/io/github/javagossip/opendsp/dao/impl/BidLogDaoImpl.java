@@ -0,0 +1,18 @@
+package io.github.javagossip.opendsp.dao.impl;
+
+import com.mybatisflex.spring.service.impl.ServiceImpl;
+import io.github.javagossip.opendsp.model.BidLog;
+import io.github.javagossip.opendsp.mapper.BidLogMapper;
+import io.github.javagossip.opendsp.dao.BidLogDao;
+import org.springframework.stereotype.Service;
+
+/**
+ * 竞价日志表 服务层实现。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+@Service
+public class BidLogDaoImpl extends ServiceImpl<BidLogMapper, BidLog>  implements BidLogDao{
+
+}
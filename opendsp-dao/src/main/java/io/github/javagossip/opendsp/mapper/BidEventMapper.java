@@ -0,0 +1,16 @@
+package io.github.javagossip.opendsp.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import com.mybatisflex.core.BaseMapper;
+import io.github.javagossip.opendsp.model.BidEvent;
+
+/**
+ * 竞价结果事件 映射层。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+@Mapper
+public interface BidEventMapper extends BaseMapper<BidEvent> {
+
+}
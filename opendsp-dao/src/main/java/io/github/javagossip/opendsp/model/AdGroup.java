@@ -71,7 +71,7 @@ public class AdGroup implements Serializable {
     private String timeSlots;
 
     /**
-     * 每日投放预算,单位元
+     * 每日投放预算,单位分
      */
     private Integer budget;
 
@@ -0,0 +1,73 @@
+package io.github.javagossip.opendsp.model;
+
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.annotation.KeyType;
+import com.mybatisflex.annotation.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 广告主余额表 实体类。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("advertiser_balance")
+public class AdvertiserBalance implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id(keyType = KeyType.Auto)
+    private Integer id;
+
+    /**
+     * 广告主id
+     */
+    private Integer advertiserId;
+
+    /**
+     * 账户余额（单位：分）
+     */
+    private Long balance;
+
+    /**
+     * 冻结余额（单位：分）
+     */
+    private Long frozenBalance;
+
+    /**
+     * 总充值金额（单位：分）
+     */
+    private Long totalRecharge;
+
+    /**
+     * 总消费金额（单位：分）
+     */
+    private Long totalConsume;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updateTime;
+
+    /**
+     * 版本号，用于乐观锁
+     */
+    private Integer version;
+
+}
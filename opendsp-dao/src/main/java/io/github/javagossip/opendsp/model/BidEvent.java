@@ -0,0 +1,88 @@
+package io.github.javagossip.opendsp.model;
+
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.annotation.KeyType;
+import com.mybatisflex.annotation.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 竞价结果事件 实体类。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("bid_event")
+public class BidEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 事件类型-胜出
+     */
+    public static final int TYPE_WIN = 1;
+
+    /**
+     * 事件类型-竞价失败
+     */
+    public static final int TYPE_LOSS = 2;
+
+    @Id(keyType = KeyType.Auto)
+    private Long id;
+
+    /**
+     * 竞价请求ID
+     */
+    private String requestId;
+
+    /**
+     * 事件类型：1-胜出,2-竞价失败
+     */
+    private Integer eventType;
+
+    /**
+     * 广告主id
+     */
+    private Integer advertiserId;
+
+    /**
+     * 推广计划id
+     */
+    private Integer campaignId;
+
+    /**
+     * 广告组id
+     */
+    private Integer adGroupId;
+
+    /**
+     * 创意id
+     */
+    private Integer creativeId;
+
+    /**
+     * 成交价（单位：分），仅胜出事件
+     */
+    private Long winPrice;
+
+    /**
+     * 竞价失败原因码，仅竞价失败事件
+     */
+    private Integer lossReason;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+
+}
@@ -0,0 +1,143 @@
+package io.github.javagossip.opendsp.model;
+
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.annotation.KeyType;
+import com.mybatisflex.annotation.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 竞价日志表 实体类。
+ *
+ * @author weiping wang
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("bid_log")
+public class BidLog implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id(keyType = KeyType.Auto)
+    private Long id;
+
+    /**
+     * 竞价请求ID
+     */
+    private String requestId;
+
+    /**
+     * 广告主id
+     */
+    private Integer advertiserId;
+
+    /**
+     * 推广计划id
+     */
+    private Integer campaignId;
+
+    /**
+     * 广告组id
+     */
+    private Integer adGroupId;
+
+    /**
+     * 创意id
+     */
+    private Integer creativeId;
+
+    /**
+     * 广告位id
+     */
+    private Integer adSlotId;
+
+    /**
+     * ADX平台标识
+     */
+    private String adxId;
+
+    /**
+     * ADX广告位ID
+     */
+    private String adxSlotId;
+
+    /**
+     * 出价（单位：分）
+     */
+    private Long bidPrice;
+
+    /**
+     * 成交价（单位：分）
+     */
+    private Long winPrice;
+
+    /**
+     * 是否中标：0-未中标,1-中标
+     */
+    private Integer isWin;
+
+    /**
+     * 用户ID
+     */
+    private String userId;
+
+    /**
+     * 设备ID
+     */
+    private String deviceId;
+
+    /**
+     * 用户IP
+     */
+    private String ip;
+
+    /**
+     * 用户代理
+     */
+    private String userAgent;
+
+    /**
+     * 国家
+     */
+    private String geoCountry;
+
+    /**
+     * 地区
+     */
+    private String geoRegion;
+
+    /**
+     * 城市
+     */
+    private String geoCity;
+
+    /**
+     * 设备类型
+     */
+    private String deviceType;
+
+    /**
+     * 操作系统
+     */
+    private String os;
+
+    /**
+     * 浏览器
+     */
+    private String browser;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+
+}
@@ -55,6 +55,11 @@ public class Creative implements Serializable {
      */
     private String nativeAdContent;
 
+    /**
+     * 审核状态：0-待审核,1-审核通过,2-审核不通过
+     */
+    private Integer auditStatus;
+
     /**
      * 创建日期
      */
@@ -1,11 +1,15 @@
 package io.github.javagossip.opendsp.model;
 
+import java.util.List;
+
 import lombok.Data;
 
 @Data
 public class FreqCapping {
 
     private Integer frequency;
-    //频次控制时间窗口，1-day,2-week,3-month
+    //频次控制时间窗口，0-hour,1-day,2-week,3-month
     private Integer timeWindow;
+    //其他时间窗口的频次控制，与frequency/timeWindow同时生效
+    private List<FreqCapping> windows;
 }
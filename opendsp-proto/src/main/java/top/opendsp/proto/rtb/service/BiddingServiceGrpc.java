@@ -46,6 +46,68 @@ public final class BiddingServiceGrpc {
     return getBidMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<top.opendsp.proto.rtb.OpenDspRtb.BidRequest,
+      top.opendsp.proto.rtb.OpenDspRtb.BidResponse> getBidStreamMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "bidStream",
+      requestType = top.opendsp.proto.rtb.OpenDspRtb.BidRequest.class,
+      responseType = top.opendsp.proto.rtb.OpenDspRtb.BidResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<top.opendsp.proto.rtb.OpenDspRtb.BidRequest,
+      top.opendsp.proto.rtb.OpenDspRtb.BidResponse> getBidStreamMethod() {
+    io.grpc.MethodDescriptor<top.opendsp.proto.rtb.OpenDspRtb.BidRequest, top.opendsp.proto.rtb.OpenDspRtb.BidResponse> getBidStreamMethod;
+    if ((getBidStreamMethod = BiddingServiceGrpc.getBidStreamMethod) == null) {
+      synchronized (BiddingServiceGrpc.class) {
+        if ((getBidStreamMethod = BiddingServiceGrpc.getBidStreamMethod) == null) {
+          BiddingServiceGrpc.getBidStreamMethod = getBidStreamMethod =
+              io.grpc.MethodDescriptor.<top.opendsp.proto.rtb.OpenDspRtb.BidRequest, top.opendsp.proto.rtb.OpenDspRtb.BidResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "bidStream"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  top.opendsp.proto.rtb.OpenDspRtb.BidRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  top.opendsp.proto.rtb.OpenDspRtb.BidResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new BiddingServiceMethodDescriptorSupplier("bidStream"))
+              .build();
+        }
+      }
+    }
+    return getBidStreamMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch,
+      top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse> getReportNoticesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "reportNotices",
+      requestType = top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch.class,
+      responseType = top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch,
+      top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse> getReportNoticesMethod() {
+    io.grpc.MethodDescriptor<top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch, top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse> getReportNoticesMethod;
+    if ((getReportNoticesMethod = BiddingServiceGrpc.getReportNoticesMethod) == null) {
+      synchronized (BiddingServiceGrpc.class) {
+        if ((getReportNoticesMethod = BiddingServiceGrpc.getReportNoticesMethod) == null) {
+          BiddingServiceGrpc.getReportNoticesMethod = getReportNoticesMethod =
+              io.grpc.MethodDescriptor.<top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch, top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "reportNotices"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new BiddingServiceMethodDescriptorSupplier("reportNotices"))
+              .build();
+        }
+      }
+    }
+    return getReportNoticesMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -115,6 +177,26 @@ public final class BiddingServiceGrpc {
         io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspRtb.BidResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getBidMethod(), responseObserver);
     }
+
+    /**
+     * <pre>
+     *双向流式竞价，一个流上复用多个竞价请求，响应按完成顺序返回，通过响应id与请求id关联
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspRtb.BidRequest> bidStream(
+        io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspRtb.BidResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getBidStreamMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     *竞价结果通知流，调用方按批发送胜出、竞价失败和计费通知，流结束时返回处理结果
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch> reportNotices(
+        io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getReportNoticesMethod(), responseObserver);
+    }
   }
 
   /**
@@ -151,6 +233,28 @@ public final class BiddingServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getBidMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     *双向流式竞价，一个流上复用多个竞价请求，响应按完成顺序返回，通过响应id与请求id关联
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspRtb.BidRequest> bidStream(
+        io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspRtb.BidResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getBidStreamMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     * <pre>
+     *竞价结果通知流，调用方按批发送胜出、竞价失败和计费通知，流结束时返回处理结果
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch> reportNotices(
+        io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getReportNoticesMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -175,6 +279,30 @@ public final class BiddingServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getBidMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     *双向流式竞价，一个流上复用多个竞价请求，响应按完成顺序返回，通过响应id与请求id关联
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<top.opendsp.proto.rtb.OpenDspRtb.BidRequest, top.opendsp.proto.rtb.OpenDspRtb.BidResponse>
+        bidStream() {
+      return io.grpc.stub.ClientCalls.blockingBidiStreamingCall(
+          getChannel(), getBidStreamMethod(), getCallOptions());
+    }
+
+    /**
+     * <pre>
+     *竞价结果通知流，调用方按批发送胜出、竞价失败和计费通知，流结束时返回处理结果
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch, top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse>
+        reportNotices() {
+      return io.grpc.stub.ClientCalls.blockingClientStreamingCall(
+          getChannel(), getReportNoticesMethod(), getCallOptions());
+    }
   }
 
   /**
@@ -227,6 +355,8 @@ public final class BiddingServiceGrpc {
   }
 
   private static final int METHODID_BID = 0;
+  private static final int METHODID_BID_STREAM = 1;
+  private static final int METHODID_REPORT_NOTICES = 2;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -259,6 +389,12 @@ public final class BiddingServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_BID_STREAM:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.bidStream(
+              (io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspRtb.BidResponse>) responseObserver);
+        case METHODID_REPORT_NOTICES:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.reportNotices(
+              (io.grpc.stub.StreamObserver<top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -274,6 +410,20 @@ public final class BiddingServiceGrpc {
               top.opendsp.proto.rtb.OpenDspRtb.BidRequest,
               top.opendsp.proto.rtb.OpenDspRtb.BidResponse>(
                 service, METHODID_BID)))
+        .addMethod(
+          getBidStreamMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              top.opendsp.proto.rtb.OpenDspRtb.BidRequest,
+              top.opendsp.proto.rtb.OpenDspRtb.BidResponse>(
+                service, METHODID_BID_STREAM)))
+        .addMethod(
+          getReportNoticesMethod(),
+          io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+            new MethodHandlers<
+              top.opendsp.proto.rtb.OpenDspNotice.NoticeBatch,
+              top.opendsp.proto.rtb.OpenDspNotice.NotifyResponse>(
+                service, METHODID_REPORT_NOTICES)))
         .build();
   }
 
@@ -323,6 +473,8 @@ public final class BiddingServiceGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new BiddingServiceFileDescriptorSupplier())
               .addMethod(getBidMethod())
+              .addMethod(getBidStreamMethod())
+              .addMethod(getReportNoticesMethod())
               .build();
         }
       }
@@ -35,21 +35,27 @@ public final class OpenDspRtbServices {
   static {
     java.lang.String[] descriptorData = {
       "\n\016services.proto\022\021top.opendsp.proto\032\013enu" +
-      "ms.proto\032\trtb.proto2X\n\016BiddingService\022F\n" +
-      "\003bid\022\035.top.opendsp.proto.BidRequest\032\036.to" +
-      "p.opendsp.proto.BidResponse\"\000B5\n\035top.ope" +
-      "ndsp.proto.rtb.serviceB\022OpenDspRtbServic" +
-      "esH\001b\006proto3"
+      "ms.proto\032\trtb.proto\032\014notice.proto2\202\002\n\016Bi" +
+      "ddingService\022F\n\003bid\022\035.top.opendsp.proto." +
+      "BidRequest\032\036.top.opendsp.proto.BidRespon" +
+      "se\"\000\022P\n\tbidStream\022\035.top.opendsp.proto.Bi" +
+      "dRequest\032\036.top.opendsp.proto.BidResponse" +
+      "\"\000(\0010\001\022V\n\rreportNotices\022\036.top.opendsp.pr" +
+      "oto.NoticeBatch\032!.top.opendsp.proto.Noti" +
+      "fyResponse\"\000(\001B5\n\035top.opendsp.proto.rtb." +
+      "serviceB\022OpenDspRtbServicesH\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
           top.opendsp.proto.enums.OpenDspEnums.getDescriptor(),
           top.opendsp.proto.rtb.OpenDspRtb.getDescriptor(),
+          top.opendsp.proto.rtb.OpenDspNotice.getDescriptor(),
         });
     descriptor.resolveAllFeaturesImmutable();
     top.opendsp.proto.enums.OpenDspEnums.getDescriptor();
     top.opendsp.proto.rtb.OpenDspRtb.getDescriptor();
+    top.opendsp.proto.rtb.OpenDspNotice.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -97,6 +97,37 @@ CREATE TABLE IF NOT EXISTS `bid_log` (
     KEY `idx_create_time` (`create_time`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='竞价日志表';
 
+-- 创建竞价结果事件表，胜出和竞价失败通知只追加写入，通过request_id和creative_id与竞价日志关联
+CREATE TABLE IF NOT EXISTS `bid_event` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+    `request_id` VARCHAR(64) NOT NULL COMMENT '竞价请求ID',
+    `event_type` TINYINT NOT NULL COMMENT '事件类型：1-胜出,2-竞价失败',
+    `advertiser_id` INT NOT NULL COMMENT '广告主id',
+    `campaign_id` INT NOT NULL COMMENT '推广计划id',
+    `ad_group_id` INT NOT NULL COMMENT '广告组id',
+    `creative_id` INT NOT NULL COMMENT '创意id',
+    `win_price` BIGINT COMMENT '成交价（单位：分），仅胜出事件',
+    `loss_reason` INT COMMENT '竞价失败原因码，仅竞价失败事件',
+    `create_time` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    KEY `idx_request_id` (`request_id`, `creative_id`),
+    KEY `idx_create_time` (`create_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='竞价结果事件表';
+
+-- 创建竞价结果视图，查询时关联竞价日志和胜出事件
+-- 胜出通知可能重复到达，先按request_id和creative_id汇总胜出事件，保证每条竞价日志只对应一行
+CREATE OR REPLACE VIEW `bid_result_view` AS
+SELECT b.`id`, b.`request_id`, b.`advertiser_id`, b.`campaign_id`, b.`ad_group_id`, b.`creative_id`,
+       b.`ad_slot_id`, b.`adx_id`, b.`adx_slot_id`, b.`bid_price`,
+       e.`win_price`, IF(e.`request_id` IS NULL, 0, 1) AS `is_win`, b.`create_time`
+FROM `bid_log` b
+LEFT JOIN (
+    SELECT `request_id`, `creative_id`, MAX(`win_price`) AS `win_price`
+    FROM `bid_event`
+    WHERE `event_type` = 1
+    GROUP BY `request_id`, `creative_id`
+) e
+    ON e.`request_id` = b.`request_id` AND e.`creative_id` = b.`creative_id`;
+
 -- 创建曝光日志表
 CREATE TABLE IF NOT EXISTS `impression_log` (
     `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',